@@ -0,0 +1,173 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// Ejecuta muchos escenarios independientes en paralelo. Cada escenario se simula
+// en su propio ProcessManager (sin registro en memoria) dentro de un ForkJoinPool
+// que usa todos los núcleos disponibles.
+public class BatchSimulator {
+    private final int parallelism;
+    private SchedulingAlgorithm schedulingAlgorithm = SchedulingAlgorithm.ROUND_ROBIN;
+
+    public BatchSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchSimulator(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public void setSchedulingAlgorithm(SchedulingAlgorithm schedulingAlgorithm) {
+        this.schedulingAlgorithm = schedulingAlgorithm;
+    }
+
+    public BatchResult run(List<Scenario> scenarios) throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            List<ScenarioResult> results = pool.submit(() -> scenarios.parallelStream()
+                    .map(scenario -> runScenario(scenario, schedulingAlgorithm))
+                    .collect(Collectors.toList()))
+                    .get();
+            return new BatchResult(results, System.nanoTime() - start);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static ScenarioResult runScenario(Scenario scenario) {
+        return runScenario(scenario, SchedulingAlgorithm.ROUND_ROBIN);
+    }
+
+    public static ScenarioResult runScenario(Scenario scenario, SchedulingAlgorithm schedulingAlgorithm) {
+        ProcessManager processManager = scenario.toProcessManager();
+        processManager.setLogRetention(false);
+        processManager.setSchedulingAlgorithm(schedulingAlgorithm);
+
+        long start = System.nanoTime();
+        processManager.runSimulation();
+        long elapsed = System.nanoTime() - start;
+
+        int notExecuted = scenario.countNotExecutable();
+        return new ScenarioResult(scenario.getName(), scenario.getProcesses().size(),
+                scenario.getProcesses().size() - notExecuted, notExecuted,
+                processManager.getCompletedCycles(), elapsed, processManager.getMetrics());
+    }
+
+    public static class ScenarioResult {
+        private String name;
+        private int processCount;
+        private int executedCount;
+        private int notExecutedCount;
+        private long cycles;
+        private long elapsedNanos;
+        // Solo los promedios de SimulationMetrics, sin las métricas por proceso
+        private int completedCount;
+        private double averageTurnaroundTime;
+        private double averageWaitingTime;
+        private double averageResponseTime;
+
+        public ScenarioResult(String name, int processCount, int executedCount, int notExecutedCount,
+                              long cycles, long elapsedNanos, SimulationMetrics metrics) {
+            this.name = name;
+            this.processCount = processCount;
+            this.executedCount = executedCount;
+            this.notExecutedCount = notExecutedCount;
+            this.cycles = cycles;
+            this.elapsedNanos = elapsedNanos;
+            this.completedCount = metrics.getCompletedCount();
+            this.averageTurnaroundTime = metrics.getAverageTurnaroundTime();
+            this.averageWaitingTime = metrics.getAverageWaitingTime();
+            this.averageResponseTime = metrics.getAverageResponseTime();
+        }
+
+        public String getName() { return name; }
+        public int getProcessCount() { return processCount; }
+        public int getExecutedCount() { return executedCount; }
+        public int getNotExecutedCount() { return notExecutedCount; }
+        public long getCycles() { return cycles; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public int getCompletedCount() { return completedCount; }
+        public double getAverageTurnaroundTime() { return averageTurnaroundTime; }
+        public double getAverageWaitingTime() { return averageWaitingTime; }
+        public double getAverageResponseTime() { return averageResponseTime; }
+    }
+
+    // Estadísticas agregadas del lote
+    public static class BatchResult {
+        private List<ScenarioResult> results;
+        private long wallNanos;
+        private long totalCycles;
+        private long totalProcesses;
+        private long minCycles;
+        private long maxCycles;
+        private long totalSimulationNanos;
+        // Promedios sobre todos los procesos terminados del lote (no promedio de promedios)
+        private long totalCompleted;
+        private double totalTurnaroundTime;
+        private double totalWaitingTime;
+        private double totalResponseTime;
+
+        public BatchResult(List<ScenarioResult> results, long wallNanos) {
+            this.results = new ArrayList<>(results);
+            this.wallNanos = wallNanos;
+            this.minCycles = results.isEmpty() ? 0 : Long.MAX_VALUE;
+            for (ScenarioResult result : results) {
+                totalCycles += result.getCycles();
+                totalProcesses += result.getProcessCount();
+                minCycles = Math.min(minCycles, result.getCycles());
+                maxCycles = Math.max(maxCycles, result.getCycles());
+                totalSimulationNanos += result.getElapsedNanos();
+                totalCompleted += result.getCompletedCount();
+                totalTurnaroundTime += result.getAverageTurnaroundTime() * result.getCompletedCount();
+                totalWaitingTime += result.getAverageWaitingTime() * result.getCompletedCount();
+                totalResponseTime += result.getAverageResponseTime() * result.getCompletedCount();
+            }
+        }
+
+        public List<ScenarioResult> getResults() { return results; }
+        public int getScenarioCount() { return results.size(); }
+        public long getWallNanos() { return wallNanos; }
+        public long getTotalCycles() { return totalCycles; }
+        public long getTotalProcesses() { return totalProcesses; }
+        public long getMinCycles() { return minCycles; }
+        public long getMaxCycles() { return maxCycles; }
+        public long getTotalSimulationNanos() { return totalSimulationNanos; }
+        public long getTotalCompleted() { return totalCompleted; }
+
+        public double getAverageTurnaroundTime() {
+            return totalCompleted == 0 ? 0 : totalTurnaroundTime / totalCompleted;
+        }
+
+        public double getAverageWaitingTime() {
+            return totalCompleted == 0 ? 0 : totalWaitingTime / totalCompleted;
+        }
+
+        public double getAverageResponseTime() {
+            return totalCompleted == 0 ? 0 : totalResponseTime / totalCompleted;
+        }
+
+        public double getAverageCycles() {
+            return results.isEmpty() ? 0 : (double) totalCycles / results.size();
+        }
+
+        public double getScenariosPerSecond() {
+            return wallNanos == 0 ? 0 : results.size() / (wallNanos / 1e9);
+        }
+
+        // Tiempo de simulación sumado sobre tiempo real: cuantos núcleos se aprovecharon
+        public double getSpeedup() {
+            return wallNanos == 0 ? 0 : (double) totalSimulationNanos / wallNanos;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+// Escritura con búfer directo sobre un canal: los datos se acumulan en el búfer y
+// se vuelcan al canal cuando se llena. Los enteros binarios van en orden big-endian.
+// No cierra el canal; flush() vuelca lo pendiente.
+final class ChannelWriter {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    // Dígitos de putDecimal, de atrás hacia adelante
+    private final byte[] digits = new byte[20];
+
+    ChannelWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    void putByte(int value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put((byte) value);
+    }
+
+    void putInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void putLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    // Texto como longitud int + UTF-8
+    void putString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        putBytes(bytes);
+    }
+
+    void putBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensure(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    // Número en texto decimal (ASCII), sin crear un String
+    void putDecimal(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            putBytes(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        boolean negative = value < 0;
+        long rest = negative ? -value : value;
+        int start = digits.length;
+        do {
+            digits[--start] = (byte) ('0' + rest % 10);
+            rest /= 10;
+        } while (rest != 0);
+        if (negative) {
+            digits[--start] = '-';
+        }
+        ensure(digits.length - start);
+        buffer.put(digits, start, digits.length - start);
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
@@ -2,4 +2,6 @@ package model;
 
 public class Constants {
     public static final int QUANTUM_TIME = 5;
+    // Por encima de este número de ciclos se usa el motor Round Robin comprimido
+    public static final long MAX_EXPANDED_CYCLES = 1_000_000;
 }
@@ -0,0 +1,87 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// Guarda los ciclos de una CPU (una partición en modo paralelo) en columnas,
+// junto con el instante de inicio de cada ciclo en el reloj de esa CPU.
+class CycleBuffer implements CycleSink {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final Filter[] FILTERS = Filter.values();
+
+    private Process[] processes = new Process[INITIAL_CAPACITY];
+    private long[] cycleCounts = new long[INITIAL_CAPACITY];
+    private long[] remainingTimes = new long[INITIAL_CAPACITY];
+    private long[] timeSlices = new long[INITIAL_CAPACITY];
+    private byte[] outcomes = new byte[INITIAL_CAPACITY];
+    private long[] repetitions = new long[INITIAL_CAPACITY];
+    private long[] startTimes = new long[INITIAL_CAPACITY];
+    private long[] periods = new long[INITIAL_CAPACITY];
+    private long[] ioTimes = new long[INITIAL_CAPACITY];
+    private int size;
+
+    @Override
+    public void addCycle(Process process, long cycleCount, long remainingTime, long timeSlice,
+                         Filter outcome, long repetitionCount, long startTime, long period,
+                         long ioTime) {
+        if (size == processes.length) {
+            grow();
+        }
+        processes[size] = process;
+        cycleCounts[size] = cycleCount;
+        remainingTimes[size] = remainingTime;
+        timeSlices[size] = timeSlice;
+        outcomes[size] = (byte) outcome.ordinal();
+        repetitions[size] = repetitionCount;
+        startTimes[size] = startTime;
+        periods[size] = period;
+        ioTimes[size] = ioTime;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void replay(int index, CycleSink sink) {
+        sink.addCycle(processes[index], cycleCounts[index], remainingTimes[index], timeSlices[index],
+                FILTERS[outcomes[index]], repetitions[index], startTimes[index],
+                periods[index], ioTimes[index]);
+    }
+
+    // Mezcla los búferes por instante de inicio; en caso de empate va primero el
+    // búfer de menor índice, de modo que el orden es siempre el mismo
+    static void merge(List<CycleBuffer> buffers, CycleSink sink) {
+        PriorityQueue<int[]> cursors = new PriorityQueue<>((a, b) -> {
+            int byTime = Long.compare(buffers.get(a[0]).startTimes[a[1]], buffers.get(b[0]).startTimes[b[1]]);
+            return byTime != 0 ? byTime : Integer.compare(a[0], b[0]);
+        });
+        for (int i = 0; i < buffers.size(); i++) {
+            if (buffers.get(i).size > 0) {
+                cursors.add(new int[] {i, 0});
+            }
+        }
+        while (!cursors.isEmpty()) {
+            int[] cursor = cursors.poll();
+            CycleBuffer buffer = buffers.get(cursor[0]);
+            buffer.replay(cursor[1], sink);
+            if (++cursor[1] < buffer.size) {
+                cursors.add(cursor);
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = processes.length * 2;
+        processes = Arrays.copyOf(processes, capacity);
+        cycleCounts = Arrays.copyOf(cycleCounts, capacity);
+        remainingTimes = Arrays.copyOf(remainingTimes, capacity);
+        timeSlices = Arrays.copyOf(timeSlices, capacity);
+        outcomes = Arrays.copyOf(outcomes, capacity);
+        repetitions = Arrays.copyOf(repetitions, capacity);
+        startTimes = Arrays.copyOf(startTimes, capacity);
+        periods = Arrays.copyOf(periods, capacity);
+        ioTimes = Arrays.copyOf(ioTimes, capacity);
+    }
+}
@@ -0,0 +1,11 @@
+package model;
+
+// Destino de los ciclos que produce el motor de simulación. startTime es el
+// instante del primer despacho en el reloj de la CPU que ejecutó el ciclo y
+// period la distancia entre despachos de repeticiones consecutivas. ioTime es lo
+// que el proceso pasa bloqueado tras el ciclo (espera del dispositivo más la E/S).
+interface CycleSink {
+    void addCycle(Process process, long cycleCount, long remainingTime, long timeSlice,
+                  Filter outcome, long repetitions, long startTime,
+                  long period, long ioTime);
+}
@@ -0,0 +1,112 @@
+package model;
+
+import java.util.Arrays;
+
+// Cola de eventos ordenada por instante, tipo (ver EventType) y orden de inserción.
+// Como ProcessHeap, guarda los campos en arreglos paralelos para no crear un objeto
+// por evento; el primero se consulta con peekTime/peekType/peekProcess y se quita
+// con remove().
+class EventQueue {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final EventType[] TYPES = EventType.values();
+
+    private long[] times = new long[DEFAULT_CAPACITY];
+    private byte[] types = new byte[DEFAULT_CAPACITY];
+    private long[] sequences = new long[DEFAULT_CAPACITY];
+    private Process[] processes = new Process[DEFAULT_CAPACITY];
+    private int size;
+    private long nextSequence;
+
+    void add(long time, EventType type, Process process) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size << 1);
+            types = Arrays.copyOf(types, size << 1);
+            sequences = Arrays.copyOf(sequences, size << 1);
+            processes = Arrays.copyOf(processes, size << 1);
+        }
+        int index = size++;
+        set(index, time, (byte) type.ordinal(), nextSequence++, process);
+        siftUp(index);
+    }
+
+    long peekTime() {
+        return times[0];
+    }
+
+    EventType peekType() {
+        return TYPES[types[0]];
+    }
+
+    Process peekProcess() {
+        return processes[0];
+    }
+
+    void remove() {
+        size--;
+        if (size > 0) {
+            set(0, times[size], types[size], sequences[size], processes[size]);
+            siftDown(0);
+        }
+        processes[size] = null;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(index, parent)) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                break;
+            }
+            int smallest = left + 1 < size && less(left + 1, left) ? left + 1 : left;
+            if (!less(smallest, index)) {
+                break;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private boolean less(int a, int b) {
+        if (times[a] != times[b]) {
+            return times[a] < times[b];
+        }
+        if (types[a] != types[b]) {
+            return types[a] < types[b];
+        }
+        return sequences[a] < sequences[b];
+    }
+
+    private void swap(int a, int b) {
+        long time = times[a];
+        byte type = types[a];
+        long sequence = sequences[a];
+        Process process = processes[a];
+        set(a, times[b], types[b], sequences[b], processes[b]);
+        set(b, time, type, sequence, process);
+    }
+
+    private void set(int index, long time, byte type, long sequence, Process process) {
+        times[index] = time;
+        types[index] = type;
+        sequences[index] = sequence;
+        processes[index] = process;
+    }
+}
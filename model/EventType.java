@@ -0,0 +1,12 @@
+package model;
+
+// Eventos del núcleo de simulación. A igual instante se atienden en el orden en
+// que están declarados: primero entran a la cola de listos los procesos que llegan
+// o terminan su E/S, luego se cierra el ciclo en curso y al final se despacha.
+enum EventType {
+    ARRIVAL,
+    IO_COMPLETION,
+    QUANTUM_EXPIRY,
+    TERMINATION,
+    DISPATCH
+}
@@ -13,7 +13,9 @@ public enum Filter {
     PARTICIONES("Informe de particiones", "Particiones"),
     FINALIZACION_PARTICIONES("Informe de finalización de particiones", "Finalización de Particiones"),
     NO_EJECUTADO("Informe de procesos no ejecutados", "No Ejecutados"),
-    EJECUCION_PROCESOS("Informe de ejecución de procesos", "Ejecución de Procesos");
+    EJECUCION_PROCESOS("Informe de ejecución de procesos", "Ejecución de Procesos"),
+    METRICAS("Informe de métricas de planificación", "Métricas"),
+    METRICAS_PARTICIONES("Informe de métricas por partición", "Métricas por Partición");
         
     private String description;
     private String name;
@@ -0,0 +1,38 @@
+package model;
+
+import java.util.Arrays;
+
+// Lista de enteros solo-anexar organizada en segmentos de tamaño fijo:
+// crecer nunca copia los datos ya escritos
+class IntSegmentList {
+    private static final int SEGMENT_BITS = 12;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private int[][] segments;
+    private int size;
+
+    IntSegmentList() {
+        segments = new int[4][];
+    }
+
+    void add(int value) {
+        int segment = size >>> SEGMENT_BITS;
+        if (segment == segments.length) {
+            segments = Arrays.copyOf(segments, segments.length << 1);
+        }
+        if (segments[segment] == null) {
+            segments[segment] = new int[SEGMENT_SIZE];
+        }
+        segments[segment][size & SEGMENT_MASK] = value;
+        size++;
+    }
+
+    int get(int index) {
+        return segments[index >>> SEGMENT_BITS][index & SEGMENT_MASK];
+    }
+
+    int size() {
+        return size;
+    }
+}
@@ -7,10 +7,19 @@ public class Log {
     private long size;
     private Partition partition;
     private Filter filter;
-    private int cycleCount;
-    private long timestamp;
+    private long cycleCount;
+    private long repetitions;
+    private long remainingStep;
+    // Instante simulado del evento y, en registros comprimidos, distancia entre repeticiones
+    private long time;
+    private long period;
 
     public Log(Process process, Filter filter) {
+        this(process, filter, 0);
+    }
+
+    // Registro fuera de un ciclo ocurrido en el instante 'time'
+    Log(Process process, Filter filter, long time) {
         this.processName = process.getName();
         this.remainingTime = process.getRemainingTime();
         this.status = process.getStatus();
@@ -18,7 +27,26 @@ public class Log {
         this.partition = process.getPartition();
         this.cycleCount = process.getCycleCount();
         this.filter = filter;
-        this.timestamp = System.currentTimeMillis();
+        this.repetitions = 1;
+        this.time = time;
+    }
+
+    // Registro comprimido: representa 'repetitions' ciclos consecutivos del mismo
+    // proceso, cada uno con 'remainingStep' unidades menos de tiempo restante y
+    // 'period' unidades de tiempo después del anterior
+    Log(String processName, long remainingTime, Status status, long size, Partition partition,
+        Filter filter, long cycleCount, long repetitions, long remainingStep, long time, long period) {
+        this.processName = processName;
+        this.remainingTime = remainingTime;
+        this.status = status;
+        this.size = size;
+        this.partition = partition;
+        this.filter = filter;
+        this.cycleCount = cycleCount;
+        this.repetitions = repetitions;
+        this.remainingStep = remainingStep;
+        this.time = time;
+        this.period = period;
     }
 
     public String getProcessName() {
@@ -53,12 +81,42 @@ public class Log {
         return filter;
     }
 
-    public int getCycleCount() {
+    public long getCycleCount() {
         return cycleCount;
     }
 
-    public long getTimestamp() {
-        return timestamp;
+    public long getRepetitions() {
+        return repetitions;
+    }
+
+    public boolean isCompressed() {
+        return repetitions > 1;
+    }
+
+    public long getLastCycleCount() {
+        return cycleCount + repetitions - 1;
+    }
+
+    public long getLastRemainingTime() {
+        return Math.max(0, remainingTime - (repetitions - 1) * remainingStep);
+    }
+
+    // Porción de CPU asignada en cada repetición del ciclo (0 fuera de un ciclo)
+    public long getTimeSlice() {
+        return remainingStep;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public long getPeriod() {
+        return period;
+    }
+
+    // Instante de la última repetición (igual a getTime() si no está comprimido)
+    public long getLastTime() {
+        return TimeMath.saturatedAdd(time, TimeMath.saturatedMultiply(repetitions - 1, period));
     }
 
     @Override
@@ -71,6 +129,7 @@ public class Log {
                 ", partition=" + (partition != null ? partition.getName() : "null") +
                 ", filter=" + filter +
                 ", cycleCount=" + cycleCount +
+                (repetitions > 1 ? ", repetitions=" + repetitions : "") +
                 '}';
     }
 }
\ No newline at end of file
@@ -0,0 +1,262 @@
+package model;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+// Exportación del registro de ejecución (ver ProcessManager.exportLogs). Lee las
+// columnas de LogStore y escribe con un ChannelWriter, sin crear ningún Log ni copiar
+// el registro: la memoria usada no depende de la cantidad de registros exportados.
+// Se exporta un Filter o, con null, todos los registros en el orden de getAllLogs().
+//
+// CSV:
+//   proceso,tiempo_restante,estado,tamano,particion,ciclo,repeticiones,instante,periodo,porcion,tiempo_es
+// y, al exportar todos los filtros, antes la columna "registro" con el nombre del Filter.
+// Un registro comprimido (repeticiones > 1) representa ciclos consecutivos: el i-ésimo
+// (desde 0) ocurre en instante + i * periodo con 'porcion' unidades menos de tiempo
+// restante por cada uno. 'tiempo_es' es lo que el proceso queda bloqueado tras cada
+// ciclo (espera por el dispositivo incluida).
+//
+// Columnar (.col), big-endian, textos como longitud int + UTF-8:
+//   int     MAGIC, int versión
+//   int     n filtros, y por cada uno: texto nombre (Filter.name())
+//   int     n particiones, y por cada una: texto nombre
+//   int     n procesos, y por cada uno: texto nombre, byte estado (ordinal de Status),
+//           long tamaño, int índice de partición (-1 sin partición)
+//   bloques de hasta GROUP_SIZE registros: int n y luego cada columna completa
+//           byte filtro[n] (índice en la tabla de filtros), int proceso[n],
+//           long tiempo_restante[n], long ciclo[n], long repeticiones[n], long instante[n],
+//           long periodo[n], long porcion[n], long tiempo_es[n]
+//   int     0 (fin de los bloques)
+// Dentro de un bloque cada columna es contigua y su posición se deduce de n, asi
+// quien lee puede saltar las columnas que no necesita.
+final class LogExporter {
+    static final String COLUMNAR_EXTENSION = ".col";
+    private static final int MAGIC = 0x53504c47; // "SPLG"
+    private static final int VERSION = 1;
+    private static final int GROUP_SIZE = 1 << 16;
+
+    private static final byte[] CSV_HEADER = bytes(
+            "proceso,tiempo_restante,estado,tamano,particion,ciclo,repeticiones,instante,periodo,porcion,tiempo_es\n");
+    private static final byte[] NO_PARTITION = csvField("Sin partición");
+
+    private final LogStore.Columns columns;
+    private final IntSegmentList rows;
+    private final Filter filter;
+
+    private LogExporter(LogStore store, Filter filter) {
+        this.columns = store.getColumns();
+        this.rows = filter != null ? store.getRows(filter) : null;
+        this.filter = filter;
+    }
+
+    // El formato se elige por la extensión: .col columnar o, si no, CSV
+    static long export(LogStore store, Filter filter, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            LogExporter exporter = new LogExporter(store, filter);
+            if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(COLUMNAR_EXTENSION)) {
+                return exporter.writeColumnar(channel);
+            }
+            return exporter.writeCsv(channel);
+        }
+    }
+
+    static long exportCsv(LogStore store, Filter filter, WritableByteChannel channel) throws IOException {
+        return new LogExporter(store, filter).writeCsv(channel);
+    }
+
+    // Recibe cada registro como (fila de LogStore, filtro)
+    private interface EntryWriter {
+        void write(int row, Filter filter) throws IOException;
+    }
+
+    // La cantidad de filas se fija al empezar
+    private long forEachEntry(EntryWriter writer) throws IOException {
+        long count = 0;
+        if (filter != null) {
+            int size = rows.size();
+            for (int i = 0; i < size; i++) {
+                writer.write(rows.get(i), filter);
+            }
+            return size;
+        }
+        int rowCount = columns.rowCount();
+        for (int row = 0; row < rowCount; row++) {
+            Filter kind = columns.kind(row);
+            if (!LogStore.isCycleFilter(kind)) {
+                writer.write(row, kind);
+                count++;
+                continue;
+            }
+            for (Filter cycleFilter : LogStore.cycleFilters(kind)) {
+                writer.write(row, cycleFilter);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // CSV
+
+    private long writeCsv(WritableByteChannel channel) throws IOException {
+        ChannelWriter writer = new ChannelWriter(channel);
+        // Campos de texto ya escapados, uno por proceso y partición
+        byte[][] processNames = new byte[columns.processCount()][];
+        byte[][] partitionNames = new byte[columns.partitionCount()][];
+        byte[][] statuses = new byte[Status.values().length][];
+        for (Status status : Status.values()) {
+            statuses[status.ordinal()] = csvField(status.getValue());
+        }
+        byte[][] filterNames = new byte[Filter.values().length][];
+        for (Filter f : Filter.values()) {
+            filterNames[f.ordinal()] = bytes(f.name() + ",");
+        }
+
+        if (filter == null) {
+            writer.putBytes(bytes("registro,"));
+        }
+        writer.putBytes(CSV_HEADER);
+        long count = forEachEntry((row, rowFilter) -> {
+            int processId = columns.process(row);
+            if (processNames[processId] == null) {
+                processNames[processId] = csvField(columns.processName(processId));
+            }
+            int partitionId = columns.processPartition(processId);
+            if (partitionId >= 0 && partitionNames[partitionId] == null) {
+                partitionNames[partitionId] = csvField(columns.partitionName(partitionId));
+            }
+
+            if (filter == null) {
+                writer.putBytes(filterNames[rowFilter.ordinal()]);
+            }
+            writer.putBytes(processNames[processId]);
+            writer.putByte(',');
+            writer.putDecimal(columns.remainingTime(row, rowFilter));
+            writer.putByte(',');
+            writer.putBytes(statuses[columns.processStatus(processId).ordinal()]);
+            writer.putByte(',');
+            writer.putDecimal(columns.processSize(processId));
+            writer.putByte(',');
+            writer.putBytes(partitionId >= 0 ? partitionNames[partitionId] : NO_PARTITION);
+            writer.putByte(',');
+            writer.putDecimal(columns.cycleCount(row, rowFilter));
+            writer.putByte(',');
+            writer.putDecimal(columns.repetitions(row));
+            writer.putByte(',');
+            writer.putDecimal(columns.eventTime(row, rowFilter));
+            writer.putByte(',');
+            writer.putDecimal(columns.period(row));
+            writer.putByte(',');
+            writer.putDecimal(columns.timeSlice(row));
+            writer.putByte(',');
+            writer.putDecimal(columns.ioTime(row));
+            writer.putByte('\n');
+        });
+        writer.flush();
+        return count;
+    }
+
+    // Entre comillas si tiene separadores, comillas o saltos de línea (RFC 4180)
+    private static byte[] csvField(String value) {
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0) {
+            value = '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return bytes(value);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Columnar
+
+    private long writeColumnar(WritableByteChannel channel) throws IOException {
+        ChannelWriter writer = new ChannelWriter(channel);
+        writer.putInt(MAGIC);
+        writer.putInt(VERSION);
+        writer.putInt(Filter.values().length);
+        for (Filter f : Filter.values()) {
+            writer.putString(f.name());
+        }
+        writer.putInt(columns.partitionCount());
+        for (int i = 0; i < columns.partitionCount(); i++) {
+            writer.putString(columns.partitionName(i));
+        }
+        writer.putInt(columns.processCount());
+        for (int i = 0; i < columns.processCount(); i++) {
+            writer.putString(columns.processName(i));
+            writer.putByte(columns.processStatus(i).ordinal());
+            writer.putLong(columns.processSize(i));
+            writer.putInt(columns.processPartition(i));
+        }
+
+        Group group = new Group(writer);
+        long count = forEachEntry(group::add);
+        group.flush();
+        writer.putInt(0);
+        writer.flush();
+        return count;
+    }
+
+    // Bloque de registros pendientes: solo se guarda la fila y el filtro de cada
+    // uno, los valores se leen de las columnas al escribir el bloque
+    private final class Group {
+        private final ChannelWriter writer;
+        private final int[] rowIds = new int[GROUP_SIZE];
+        private final Filter[] filters = new Filter[GROUP_SIZE];
+        private int size;
+
+        Group(ChannelWriter writer) {
+            this.writer = writer;
+        }
+
+        void add(int row, Filter rowFilter) throws IOException {
+            rowIds[size] = row;
+            filters[size] = rowFilter;
+            if (++size == GROUP_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            if (size == 0) {
+                return;
+            }
+            writer.putInt(size);
+            for (int i = 0; i < size; i++) {
+                writer.putByte(filters[i].ordinal());
+            }
+            for (int i = 0; i < size; i++) {
+                writer.putInt(columns.process(rowIds[i]));
+            }
+            for (int i = 0; i < size; i++) {
+                writer.putLong(columns.remainingTime(rowIds[i], filters[i]));
+            }
+            for (int i = 0; i < size; i++) {
+                writer.putLong(columns.cycleCount(rowIds[i], filters[i]));
+            }
+            for (int i = 0; i < size; i++) {
+                writer.putLong(columns.repetitions(rowIds[i]));
+            }
+            for (int i = 0; i < size; i++) {
+                writer.putLong(columns.eventTime(rowIds[i], filters[i]));
+            }
+            for (int i = 0; i < size; i++) {
+                writer.putLong(columns.period(rowIds[i]));
+            }
+            for (int i = 0; i < size; i++) {
+                writer.putLong(columns.timeSlice(rowIds[i]));
+            }
+            for (int i = 0; i < size; i++) {
+                writer.putLong(columns.ioTime(rowIds[i]));
+            }
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+// Adapta la simulacion a java.util.concurrent.Flow: cada Log se publica a los
+// suscriptores y, si el buffer de alguno se llena, submit() bloquea el motor
+// hasta que el suscriptor pida mas (contrapresion)
+//
+// Cada publicador cubre una sola simulación: al terminar se cierra (con error si se
+// canceló o falló) y desde entonces no acepta ningún filtro, asi las siguientes
+// simulaciones no crean Log para él. Para otra simulación se registra uno nuevo.
+//
+// Con particiones en paralelo los eventos no llegan en vivo: se publican todos
+// juntos al terminar, cuando se mezclan los búferes de cada partición.
+public class LogPublisher extends SubmissionPublisher<Log> implements SimulationListener {
+
+    public LogPublisher() {
+        super();
+    }
+
+    public LogPublisher(int bufferCapacity) {
+        super(ForkJoinPool.commonPool(), bufferCapacity);
+    }
+
+    // Cerrado ya no consume nada, asi el gestor deja de crear Log para él
+    @Override
+    public boolean accepts(Filter filter) {
+        return !isClosed();
+    }
+
+    @Override
+    public void onLog(Log log) {
+        if (!isClosed()) {
+            submit(log);
+        }
+    }
+
+    @Override
+    public void onSimulationFinished() {
+        close();
+    }
+
+    @Override
+    public void onSimulationFailed(Throwable cause) {
+        closeExceptionally(cause);
+    }
+}
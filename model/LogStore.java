@@ -0,0 +1,540 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.RandomAccess;
+
+// Almacen compacto del registro de ejecucion. Cada ciclo de CPU se guarda una sola
+// vez (proceso, ciclo, tiempo restante, resultado) y las vistas por Filter
+// (Listo, Despachar, En Ejecucion, Expiracion, Bloqueo...) se derivan al consultar.
+// Los indices por Filter y por partición hacen que cada consulta recorra solo
+// los registros que devuelve.
+//
+// Los datos se guardan por columnas en arreglos primitivos; procesos y particiones
+// se internan una vez y cada fila solo guarda su id. Las consultas devuelven vistas
+// que crean cada Log al accederlo, sin copiar el registro.
+//
+// Cada fila de ciclo guarda el instante simulado del despacho; el de cada Filter se
+// deriva sumando el cambio de contexto, el tiempo ejecutado y el bloqueo por E/S. Los
+// ciclos se agregan en orden de despacho, asi las consultas por ventana de tiempo son
+// búsquedas binarias sobre los índices. Los registros fuera de un ciclo guardan su
+// propio instante (la llegada del proceso) y no siguen ese orden.
+public class LogStore {
+    private static final Filter[] DISPATCH_FILTERS = {
+            Filter.LISTO, Filter.DESPACHAR, Filter.EN_EJECUCION
+    };
+    private static final Filter[] BLOCK_FILTERS = {
+            Filter.TRANSICION_BLOQUEO, Filter.BLOQUEADO, Filter.DESPERTAR
+    };
+    private static final Filter[] EXPIRED_FILTERS = { Filter.TIEMPO_EXPIRADO };
+    private static final Filter[] FINISHED_FILTERS = { Filter.FINALIZADO };
+    private static final Filter[] EXPIRED_CYCLE = concat(DISPATCH_FILTERS, EXPIRED_FILTERS);
+    private static final Filter[] BLOCKED_CYCLE = concat(DISPATCH_FILTERS, BLOCK_FILTERS);
+    private static final Filter[] FINISHED_CYCLE = concat(DISPATCH_FILTERS, FINISHED_FILTERS);
+    private static final Filter[] FILTERS = Filter.values();
+    private static final Status[] STATUSES = Status.values();
+
+    private Columns columns;
+    private IdentityHashMap<Process, Integer> processIds;
+    private IdentityHashMap<Partition, Integer> partitionIds;
+    private HashMap<String, Integer> partitionIdsByName;
+    // Posiciones de filas por filtro, global y por id de partición
+    private EnumMap<Filter, IntSegmentList> filterIndex;
+    private ArrayList<EnumMap<Filter, IntSegmentList>> partitionIndex;
+
+    public LogStore() {
+        clear();
+    }
+
+    // Filtros que produce un ciclo con el resultado dado, en orden cronologico
+    static Filter[] cycleFilters(Filter outcome) {
+        switch (outcome) {
+            case FINALIZADO:
+                return FINISHED_CYCLE;
+            case TRANSICION_BLOQUEO:
+                return BLOCKED_CYCLE;
+            default:
+                return EXPIRED_CYCLE;
+        }
+    }
+
+    // Crea el Log de un ciclo tal como lo devuelven las consultas, sin guardarlo
+    static Log createCycleLog(Process process, Filter filter, long cycleCount, long remainingTime,
+                              long timeSlice, long repetitions, long startTime, long period, long ioTime,
+                              SchedulerConfig config) {
+        boolean after = !isDispatchFilter(filter);
+        return new Log(process.getName(), after ? Math.max(0, remainingTime - timeSlice) : remainingTime,
+                process.getStatus(), process.getSize(), process.getPartition(), filter,
+                after ? cycleCount + 1 : cycleCount, repetitions, timeSlice,
+                eventTime(filter, startTime, remainingTime, timeSlice, config.getContextSwitchTime(), ioTime),
+                period);
+    }
+
+    // Instante de cada evento del ciclo: listo y despacho al inicio, ejecución tras el
+    // cambio de contexto, el resultado al terminar la porción y el despertar cuando
+    // termina la E/S (incluida la espera por el dispositivo)
+    private static long eventTime(Filter filter, long startTime, long remainingTime, long timeSlice,
+                                  long contextSwitchTime, long ioTime) {
+        if (!isCycleFilter(filter) || filter == Filter.LISTO || filter == Filter.DESPACHAR) {
+            return startTime;
+        }
+        long time = TimeMath.saturatedAdd(startTime, contextSwitchTime);
+        if (filter == Filter.EN_EJECUCION) {
+            return time;
+        }
+        time = TimeMath.saturatedAdd(time, Math.min(remainingTime, timeSlice));
+        return filter == Filter.DESPERTAR ? TimeMath.saturatedAdd(time, ioTime) : time;
+    }
+
+    // Registro de un proceso fuera de un ciclo (Inicial, Particiones, No Ejecutado)
+    // ocurrido en el instante 'time' del reloj simulado
+    public void addLog(Process process, Filter filter, long time) {
+        addRow(process, filter, process.getCycleCount(), process.getRemainingTime(), 0, 1, time, 0, 0);
+    }
+
+    // Registra 'repetitions' ciclos consecutivos del proceso a partir del estado
+    // (cycleCount, remainingTime) previo al despacho. 'outcome' es FINALIZADO,
+    // TIEMPO_EXPIRADO o TRANSICION_BLOQUEO. El primer ciclo se despacha en
+    // 'startTime' y cada repetición 'period' unidades después de la anterior;
+    // 'ioTime' es lo que el proceso queda bloqueado al terminar cada ciclo.
+    public void addCycle(Process process, long cycleCount, long remainingTime, long timeSlice,
+                         Filter outcome, long repetitions, long startTime, long period, long ioTime) {
+        addRow(process, outcome, cycleCount, remainingTime, timeSlice, repetitions, startTime, period, ioTime);
+    }
+
+    public List<Log> getLogsByFilter(Filter filter) {
+        return new LogView(columns, filterIndex.get(filter), filter);
+    }
+
+    public List<Log> getLogsByFilterAndPartition(Filter filter, String partitionName) {
+        Integer partitionId = partitionIdsByName.get(partitionKey(partitionName));
+        if (partitionId == null) {
+            return new ArrayList<>();
+        }
+        return new LogView(columns, partitionIndex.get(partitionId).get(filter), filter);
+    }
+
+    // Registros del filtro con algún evento en [from, to) del reloj simulado
+    public List<Log> getLogsByFilterBetween(Filter filter, long from, long to) {
+        return new LogView(columns, columns.rowsBetween(filterIndex.get(filter), filter, from, to), filter);
+    }
+
+    public List<Log> getLogsByFilterAndPartitionBetween(Filter filter, String partitionName, long from, long to) {
+        Integer partitionId = partitionIdsByName.get(partitionKey(partitionName));
+        if (partitionId == null) {
+            return new ArrayList<>();
+        }
+        IntSegmentList rows = partitionIndex.get(partitionId).get(filter);
+        return new LogView(columns, columns.rowsBetween(rows, filter, from, to), filter);
+    }
+
+    // Registros del filtro en la ejecución actual. Conviene pedirlo con la simulación
+    // terminada: clear() crea columnas e índices nuevos, asi el FilterLog sigue leyendo
+    // los de esta ejecución sin cambios y se puede consultar desde otro hilo.
+    public FilterLog getFilterLog(Filter filter) {
+        return new FilterLog(columns, filterIndex.get(filter), filter);
+    }
+
+    // Todos los registros en el orden en que se produjeron
+    public ArrayList<Log> getAllLogs() {
+        ArrayList<Log> logs = new ArrayList<>();
+        for (int row = 0; row < columns.rowCount; row++) {
+            Filter kind = FILTERS[columns.kinds[row]];
+            if (!isCycleFilter(kind)) {
+                logs.add(columns.toLog(row, kind));
+                continue;
+            }
+            for (Filter filter : cycleFilters(kind)) {
+                logs.add(columns.toLog(row, filter));
+            }
+        }
+        return logs;
+    }
+
+    public int getRowCount() {
+        return columns.rowCount;
+    }
+
+    // Acceso directo a las columnas para LogExporter
+
+    Columns getColumns() {
+        return columns;
+    }
+
+    IntSegmentList getRows(Filter filter) {
+        return filterIndex.get(filter);
+    }
+
+    public void clear() {
+        clear(SchedulerConfig.DEFAULT);
+    }
+
+    // Los costos del planificador fijan el instante de cada evento dentro del ciclo
+    void clear(SchedulerConfig config) {
+        columns = new Columns(config.getContextSwitchTime());
+        processIds = new IdentityHashMap<>();
+        partitionIds = new IdentityHashMap<>();
+        partitionIdsByName = new HashMap<>();
+        filterIndex = createIndex();
+        partitionIndex = new ArrayList<>();
+    }
+
+    private void addRow(Process process, Filter kind, long cycleCount, long remainingTime,
+                        long timeSlice, long repetitions, long startTime, long period, long ioTime) {
+        int processId = internProcess(process);
+        int row = columns.addRow(processId, kind, cycleCount, remainingTime, timeSlice, repetitions,
+                startTime, period, ioTime);
+
+        int partitionId = columns.processPartitions[processId];
+        EnumMap<Filter, IntSegmentList> partitionFilters = partitionId < 0 ? null : partitionIndex.get(partitionId);
+        if (isCycleFilter(kind)) {
+            filterIndex.get(Filter.LISTO).add(row);
+            if (partitionFilters != null) {
+                partitionFilters.get(Filter.LISTO).add(row);
+            }
+        }
+        filterIndex.get(kind).add(row);
+        if (partitionFilters != null) {
+            partitionFilters.get(kind).add(row);
+        }
+    }
+
+    // Los datos del proceso se copian al internarlo, asi el registro no cambia
+    // si el proceso original se edita despues de la simulacion
+    private int internProcess(Process process) {
+        Integer id = processIds.get(process);
+        if (id == null) {
+            id = columns.addProcess(process.getName(), process.getStatus(), process.getSize(),
+                    internPartition(process.getPartition()));
+            processIds.put(process, id);
+        }
+        return id;
+    }
+
+    private int internPartition(Partition partition) {
+        if (partition == null) {
+            return -1;
+        }
+        Integer id = partitionIds.get(partition);
+        if (id == null) {
+            id = columns.partitions.size();
+            columns.partitions.add(partition);
+            partitionIds.put(partition, id);
+            partitionIdsByName.putIfAbsent(partitionKey(partition.getName()), id);
+            partitionIndex.add(createIndex());
+        }
+        return id;
+    }
+
+    // Los filtros que se derivan del mismo registro de ciclo comparten segmento
+    private static EnumMap<Filter, IntSegmentList> createIndex() {
+        EnumMap<Filter, IntSegmentList> index = new EnumMap<>(Filter.class);
+        IntSegmentList dispatched = new IntSegmentList();
+        IntSegmentList blocked = new IntSegmentList();
+        for (Filter filter : FILTERS) {
+            if (isDispatchFilter(filter)) {
+                index.put(filter, dispatched);
+            } else if (contains(BLOCK_FILTERS, filter)) {
+                index.put(filter, blocked);
+            } else {
+                index.put(filter, new IntSegmentList());
+            }
+        }
+        return index;
+    }
+
+    private static String partitionKey(String partitionName) {
+        return partitionName.toLowerCase(Locale.ROOT);
+    }
+
+    static boolean isCycleFilter(Filter filter) {
+        return contains(DISPATCH_FILTERS, filter) || contains(BLOCK_FILTERS, filter)
+                || filter == Filter.TIEMPO_EXPIRADO || filter == Filter.FINALIZADO;
+    }
+
+    private static boolean isDispatchFilter(Filter filter) {
+        return contains(DISPATCH_FILTERS, filter);
+    }
+
+    private static Filter[] concat(Filter[] first, Filter[] second) {
+        Filter[] filters = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, filters, first.length, second.length);
+        return filters;
+    }
+
+    private static boolean contains(Filter[] filters, Filter filter) {
+        for (Filter f : filters) {
+            if (f == filter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Columnas de una ejecucion. clear() crea unas nuevas, asi las vistas ya
+    // entregadas siguen leyendo los datos de la simulacion que las produjo.
+    static class Columns {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final long contextSwitchTime;
+        // Mayor distancia entre el despacho de una fila y su último evento
+        private long maxRowSpan;
+
+        // Tabla de procesos internados
+        private String[] processNames = new String[64];
+        private byte[] processStatuses = new byte[64];
+        private long[] processSizes = new long[64];
+        private int[] processPartitions = new int[64];
+        private int processCount;
+        private ArrayList<Partition> partitions = new ArrayList<>();
+
+        // Una fila por registro
+        private int[] rowProcesses = new int[INITIAL_CAPACITY];
+        private byte[] kinds = new byte[INITIAL_CAPACITY];
+        private long[] cycleCounts = new long[INITIAL_CAPACITY];
+        private long[] remainingTimes = new long[INITIAL_CAPACITY];
+        private long[] timeSlices = new long[INITIAL_CAPACITY];
+        private long[] repetitions = new long[INITIAL_CAPACITY];
+        private long[] startTimes = new long[INITIAL_CAPACITY];
+        private long[] periods = new long[INITIAL_CAPACITY];
+        private long[] ioTimes = new long[INITIAL_CAPACITY];
+        private int rowCount;
+
+        Columns(long contextSwitchTime) {
+            this.contextSwitchTime = contextSwitchTime;
+        }
+
+        int addProcess(String name, Status status, long size, int partitionId) {
+            if (processCount == processNames.length) {
+                int capacity = processCount << 1;
+                processNames = Arrays.copyOf(processNames, capacity);
+                processStatuses = Arrays.copyOf(processStatuses, capacity);
+                processSizes = Arrays.copyOf(processSizes, capacity);
+                processPartitions = Arrays.copyOf(processPartitions, capacity);
+            }
+            processNames[processCount] = name;
+            processStatuses[processCount] = (byte) status.ordinal();
+            processSizes[processCount] = size;
+            processPartitions[processCount] = partitionId;
+            return processCount++;
+        }
+
+        int addRow(int processId, Filter kind, long cycleCount, long remainingTime, long timeSlice,
+                   long repetition, long startTime, long period, long ioTime) {
+            if (rowCount == kinds.length) {
+                int capacity = rowCount << 1;
+                rowProcesses = Arrays.copyOf(rowProcesses, capacity);
+                kinds = Arrays.copyOf(kinds, capacity);
+                cycleCounts = Arrays.copyOf(cycleCounts, capacity);
+                remainingTimes = Arrays.copyOf(remainingTimes, capacity);
+                timeSlices = Arrays.copyOf(timeSlices, capacity);
+                repetitions = Arrays.copyOf(repetitions, capacity);
+                startTimes = Arrays.copyOf(startTimes, capacity);
+                periods = Arrays.copyOf(periods, capacity);
+                ioTimes = Arrays.copyOf(ioTimes, capacity);
+            }
+            rowProcesses[rowCount] = processId;
+            kinds[rowCount] = (byte) kind.ordinal();
+            cycleCounts[rowCount] = cycleCount;
+            remainingTimes[rowCount] = remainingTime;
+            timeSlices[rowCount] = timeSlice;
+            repetitions[rowCount] = repetition;
+            startTimes[rowCount] = startTime;
+            periods[rowCount] = period;
+            ioTimes[rowCount] = ioTime;
+            if (isCycleFilter(kind)) {
+                long span = LogStore.eventTime(Filter.DESPERTAR, 0, remainingTime, timeSlice, contextSwitchTime, ioTime);
+                span = TimeMath.saturatedAdd(span,
+                        TimeMath.saturatedMultiply(repetition - 1, period));
+                maxRowSpan = Math.max(maxRowSpan, span);
+            }
+            return rowCount++;
+        }
+
+        int rowCount() {
+            return rowCount;
+        }
+
+        Filter kind(int row) {
+            return FILTERS[kinds[row]];
+        }
+
+        int process(int row) {
+            return rowProcesses[row];
+        }
+
+        // Los filtros de despacho muestran el estado antes de ejecutar el quantum,
+        // los de resultado el estado despues
+        long remainingTime(int row, Filter filter) {
+            return isAfterCycle(filter) ? Math.max(0, remainingTimes[row] - timeSlices[row]) : remainingTimes[row];
+        }
+
+        long cycleCount(int row, Filter filter) {
+            return isAfterCycle(filter) ? cycleCounts[row] + 1 : cycleCounts[row];
+        }
+
+        long repetitions(int row) {
+            return repetitions[row];
+        }
+
+        long period(int row) {
+            return periods[row];
+        }
+
+        long timeSlice(int row) {
+            return timeSlices[row];
+        }
+
+        long ioTime(int row) {
+            return ioTimes[row];
+        }
+
+        int processCount() {
+            return processCount;
+        }
+
+        String processName(int processId) {
+            return processNames[processId];
+        }
+
+        Status processStatus(int processId) {
+            return STATUSES[processStatuses[processId]];
+        }
+
+        long processSize(int processId) {
+            return processSizes[processId];
+        }
+
+        // -1 si el proceso no tiene partición
+        int processPartition(int processId) {
+            return processPartitions[processId];
+        }
+
+        int partitionCount() {
+            return partitions.size();
+        }
+
+        String partitionName(int partitionId) {
+            return partitions.get(partitionId).getName();
+        }
+
+        private static boolean isAfterCycle(Filter filter) {
+            return isCycleFilter(filter) && !isDispatchFilter(filter);
+        }
+
+        long eventTime(int row, Filter filter) {
+            return LogStore.eventTime(filter, startTimes[row], remainingTimes[row], timeSlices[row],
+                    contextSwitchTime, ioTimes[row]);
+        }
+
+        // Filas de 'rows' cuyo evento 'filter' (o alguna de sus repeticiones) cae en
+        // [from, to). Como los despachos están ordenados, se acota el rango con dos
+        // búsquedas binarias y solo se revisan las filas que pueden solaparse.
+        IntSegmentList rowsBetween(IntSegmentList rows, Filter filter, long from, long to) {
+            int size = rows.size();
+            if (!isCycleFilter(filter)) {
+                // A lo sumo una fila por proceso y sin orden por instante: se recorren todas
+                IntSegmentList result = new IntSegmentList();
+                for (int i = 0; i < size; i++) {
+                    long time = startTimes[rows.get(i)];
+                    if (time >= from && time < to) {
+                        result.add(rows.get(i));
+                    }
+                }
+                return result;
+            }
+            long earliestStart = from >= Long.MIN_VALUE + maxRowSpan ? from - maxRowSpan : Long.MIN_VALUE;
+            int first = lowerBound(rows, size, earliestStart);
+            int last = lowerBound(rows, size, to);
+            IntSegmentList result = new IntSegmentList();
+            for (int i = first; i < last; i++) {
+                int row = rows.get(i);
+                long time = eventTime(row, filter);
+                long lastTime = TimeMath.saturatedAdd(time,
+                        TimeMath.saturatedMultiply(repetitions[row] - 1, periods[row]));
+                if (time < to && lastTime >= from) {
+                    result.add(row);
+                }
+            }
+            return result;
+        }
+
+        // Primera posición de 'rows' cuyo despacho es >= time
+        private int lowerBound(IntSegmentList rows, int size, long time) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (startTimes[rows.get(mid)] < time) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        Log toLog(int row, Filter filter) {
+            int processId = rowProcesses[row];
+            int partitionId = processPartitions[processId];
+            return new Log(processNames[processId], remainingTime(row, filter), processStatus(processId),
+                    processSizes[processId], partitionId < 0 ? null : partitions.get(partitionId),
+                    filter, cycleCount(row, filter), repetitions[row], timeSlices[row], eventTime(row, filter),
+                    periods[row]);
+        }
+    }
+
+    public static final class FilterLog {
+        private final Columns columns;
+        private final IntSegmentList rows;
+        private final Filter filter;
+
+        private FilterLog(Columns columns, IntSegmentList rows, Filter filter) {
+            this.columns = columns;
+            this.rows = rows;
+            this.filter = filter;
+        }
+
+        public int size() {
+            return rows.size();
+        }
+
+        // Registros con algún evento en [from, to) del reloj simulado
+        public List<Log> getLogsBetween(long from, long to) {
+            return new LogView(columns, columns.rowsBetween(rows, filter, from, to), filter);
+        }
+    }
+
+    private static class LogView extends AbstractList<Log> implements RandomAccess {
+        private final Columns columns;
+        private final IntSegmentList rows;
+        private final Filter filter;
+        private final int size;
+
+        LogView(Columns columns, IntSegmentList rows, Filter filter) {
+            this.columns = columns;
+            this.rows = rows;
+            this.filter = filter;
+            this.size = rows.size();
+        }
+
+        @Override
+        public Log get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return columns.toLog(rows.get(index), filter);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Colas multinivel con retroalimentación: todo proceso entra al nivel 0 y el
+// quantum se duplica en cada nivel. Quien agota su quantum baja un nivel; quien
+// sale a E/S conserva el suyo. El último nivel funciona como Round Robin.
+class MultilevelFeedbackQueuePolicy implements SchedulingPolicy {
+    static final int DEFAULT_LEVELS = 3;
+
+    private final long quantum;
+    private final List<ArrayDeque<Process>> queues;
+    private final Map<Process, Integer> levels = new IdentityHashMap<>();
+    private int size;
+
+    MultilevelFeedbackQueuePolicy(long quantum) {
+        this(quantum, DEFAULT_LEVELS);
+    }
+
+    MultilevelFeedbackQueuePolicy(long quantum, int levelCount) {
+        this.quantum = quantum;
+        this.queues = new ArrayList<>(levelCount);
+        for (int i = 0; i < levelCount; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    @Override
+    public void add(Process process) {
+        levels.put(process, 0);
+        queues.get(0).addLast(process);
+        size++;
+    }
+
+    @Override
+    public Process poll() {
+        for (ArrayDeque<Process> queue : queues) {
+            if (!queue.isEmpty()) {
+                size--;
+                return queue.pollFirst();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long getTimeSlice(Process process) {
+        return levelQuantum(levels.get(process));
+    }
+
+    // quantum * 2^level, saturado en Long.MAX_VALUE para quantums muy grandes
+    private long levelQuantum(int level) {
+        return level >= Long.numberOfLeadingZeros(quantum) ? Long.MAX_VALUE : quantum << level;
+    }
+
+    @Override
+    public void requeue(Process process, Filter outcome) {
+        int level = levels.get(process);
+        if (outcome == Filter.TIEMPO_EXPIRADO && level < queues.size() - 1) {
+            level++;
+            levels.put(process, level);
+        }
+        queues.get(level).addLast(process);
+        size++;
+    }
+
+    @Override
+    public void retire(Process process) {
+        levels.remove(process);
+    }
+
+    // Un proceso que sale a E/S conserva su nivel en cada despacho; el resto ejecuta
+    // una porción en cada nivel desde el actual y lo que falte con el quantum del último
+    @Override
+    public long countPendingCycles(Process process) {
+        int level = levels.getOrDefault(process, 0);
+        if (process.isBlocked()) {
+            return process.getPendingCycles(levelQuantum(level));
+        }
+        int lastLevel = queues.size() - 1;
+        long remaining = process.getRemainingTime();
+        long cycles = 0;
+        for (; level < lastLevel; level++) {
+            if (remaining <= 0) {
+                return cycles;
+            }
+            remaining -= Math.min(remaining, levelQuantum(level));
+            cycles++;
+        }
+        if (remaining <= 0) {
+            return cycles;
+        }
+        long lastQuantum = levelQuantum(lastLevel);
+        return cycles + remaining / lastQuantum + (remaining % lastQuantum == 0 ? 0 : 1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
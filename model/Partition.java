@@ -1,16 +1,22 @@
 package model;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class Partition {
     private String name;
     private long size;
-    private ArrayList<Process> assignedProcesses;
+    // Por nombre normalizado (ver ProcessRegistry), en orden de asignación
+    private Map<String, Process> assignedProcesses;
+    // Suma de los tiempos de los procesos asignados, al día con cada alta y baja
+    private long totalExecutionTime;
 
     public Partition(String name, long size) {
         this.name = name;
         this.size = size;
-        this.assignedProcesses = new ArrayList<>();
+        this.assignedProcesses = new LinkedHashMap<>();
     }
 
     public String getName() {
@@ -21,30 +27,39 @@ public class Partition {
         return size;
     }
 
-    public ArrayList<Process> getAssignedProcesses() {
-        return assignedProcesses;
+    // Vista de solo lectura en orden de asignación
+    public Collection<Process> getAssignedProcesses() {
+        return Collections.unmodifiableCollection(assignedProcesses.values());
     }
 
+    // Primer proceso asignado, o null si no tiene
+    public Process getFirstProcess() {
+        return assignedProcesses.isEmpty() ? null : assignedProcesses.values().iterator().next();
+    }
+
+    // El tiempo del proceso no debe cambiar mientras está asignado: ProcessManager
+    // lo quita de la partición antes de editarlo
     public void addProcess(Process process) {
-        if (!assignedProcesses.contains(process)) {
-            assignedProcesses.add(process);
+        if (assignedProcesses.putIfAbsent(ProcessRegistry.key(process.getName()), process) == null) {
+            totalExecutionTime += process.getOriginalTime();
         }
     }
 
     public void removeProcess(Process process) {
-        assignedProcesses.remove(process);
+        if (assignedProcesses.remove(ProcessRegistry.key(process.getName()), process)) {
+            totalExecutionTime -= process.getOriginalTime();
+        }
     }
 
     public void removeProcessByName(String processName) {
-        assignedProcesses.removeIf(p -> p.getName().equalsIgnoreCase(processName));
+        Process process = assignedProcesses.remove(ProcessRegistry.key(processName));
+        if (process != null) {
+            totalExecutionTime -= process.getOriginalTime();
+        }
     }
 
     public long getTotalExecutionTime() {
-        long total = 0;
-        for (Process p : assignedProcesses) {
-            total += p.getOriginalTime();
-        }
-        return total;
+        return totalExecutionTime;
     }
 
     public int getProcessCount() {
@@ -59,4 +74,4 @@ public class Partition {
     public String toString() {
         return name;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package model;
+
+// Métricas agregadas de los procesos de una partición. El tiempo transcurrido es
+// el reloj de la CPU que la ejecutó: la global, o la suya en modo paralelo.
+public class PartitionMetrics {
+    private String partitionName;
+    private long elapsedTime;
+    private long busyTime;
+    private int processCount;
+    private int completedCount;
+    private double totalTurnaroundTime;
+    private double totalWaitingTime;
+    private double totalResponseTime;
+
+    public PartitionMetrics(String partitionName, long elapsedTime) {
+        this.partitionName = partitionName;
+        this.elapsedTime = elapsedTime;
+    }
+
+    void add(ProcessMetrics metrics) {
+        processCount++;
+        if (metrics.isCompleted()) {
+            completedCount++;
+            busyTime = TimeMath.saturatedAdd(busyTime, metrics.getBurstTime());
+            totalTurnaroundTime += metrics.getTurnaroundTime();
+            totalWaitingTime += metrics.getWaitingTime();
+            totalResponseTime += metrics.getResponseTime();
+        }
+    }
+
+    // Con carga abierta el reloj final solo se conoce al terminar
+    void setElapsedTime(long elapsedTime) {
+        this.elapsedTime = elapsedTime;
+    }
+
+    double getTotalTurnaroundTime() {
+        return totalTurnaroundTime;
+    }
+
+    double getTotalWaitingTime() {
+        return totalWaitingTime;
+    }
+
+    double getTotalResponseTime() {
+        return totalResponseTime;
+    }
+
+    public String getPartitionName() {
+        return partitionName;
+    }
+
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    // Tiempo de CPU consumido por los procesos de la partición
+    public long getBusyTime() {
+        return busyTime;
+    }
+
+    public int getProcessCount() {
+        return processCount;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    // Fracción del tiempo transcurrido en que la CPU ejecutó procesos de la partición
+    public double getUtilization() {
+        return elapsedTime == 0 ? 0 : (double) busyTime / elapsedTime;
+    }
+
+    // Procesos terminados por unidad de tiempo simulado
+    public double getThroughput() {
+        return elapsedTime == 0 ? 0 : (double) completedCount / elapsedTime;
+    }
+
+    public double getAverageTurnaroundTime() {
+        return completedCount == 0 ? 0 : totalTurnaroundTime / completedCount;
+    }
+
+    public double getAverageWaitingTime() {
+        return completedCount == 0 ? 0 : totalWaitingTime / completedCount;
+    }
+
+    public double getAverageResponseTime() {
+        return completedCount == 0 ? 0 : totalResponseTime / completedCount;
+    }
+}
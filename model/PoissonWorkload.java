@@ -0,0 +1,68 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Carga abierta sintética: las llegadas forman un proceso de Poisson de tasa 'rate'
+// (procesos por unidad de tiempo) hasta el instante 'horizon'. Cada proceso tiene
+// una ráfaga exponencial de media 'meanBurst', va a una partición al azar con un
+// tamaño que cabe en ella y queda bloqueado por E/S con probabilidad
+// 'blockedProbability'. Con la misma semilla la secuencia es siempre la misma.
+public class PoissonWorkload implements WorkloadGenerator {
+    private static final int PRIORITY_LEVELS = 10;
+
+    private final List<Scenario.PartitionSpec> partitions;
+    private final double rate;
+    private final double meanBurst;
+    private final long horizon;
+    private final double blockedProbability;
+    private final Random random;
+    private double clock;
+    private long generated;
+
+    public PoissonWorkload(List<Scenario.PartitionSpec> partitions, double rate, double meanBurst, long horizon,
+                           double blockedProbability, long seed) {
+        if (partitions.isEmpty()) {
+            throw new IllegalArgumentException("La carga abierta necesita al menos una partición");
+        }
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("La tasa de llegadas debe ser mayor a 0");
+        }
+        if (!(meanBurst >= 1)) {
+            throw new IllegalArgumentException("La ráfaga media debe ser al menos 1");
+        }
+        if (horizon < 0) {
+            throw new IllegalArgumentException("El horizonte no puede ser negativo");
+        }
+        if (!(blockedProbability >= 0 && blockedProbability <= 1)) {
+            throw new IllegalArgumentException("La probabilidad de bloqueo debe estar entre 0 y 1");
+        }
+        this.partitions = new ArrayList<>(partitions);
+        this.rate = rate;
+        this.meanBurst = meanBurst;
+        this.horizon = horizon;
+        this.blockedProbability = blockedProbability;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public Scenario.ProcessSpec next() {
+        clock += exponential(1 / rate);
+        if (clock > horizon) {
+            clock = Double.POSITIVE_INFINITY;
+            return null;
+        }
+        generated++;
+        long burst = Math.max(1, Math.round(exponential(meanBurst)));
+        Scenario.PartitionSpec partition = partitions.get(random.nextInt(partitions.size()));
+        long size = 1 + random.nextLong(partition.getSize());
+        Status status = random.nextDouble() < blockedProbability ? Status.BLOQUEADO : Status.NO_BLOQUEADO;
+        return new Scenario.ProcessSpec("P" + generated, burst, status, size, partition.getName(),
+                random.nextInt(PRIORITY_LEVELS), (long) clock);
+    }
+
+    private double exponential(double mean) {
+        return -mean * Math.log(1 - random.nextDouble());
+    }
+}
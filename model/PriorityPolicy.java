@@ -0,0 +1,48 @@
+package model;
+
+// Prioridad expropiativa por quantum: siempre se despacha el proceso de menor
+// valor de prioridad y los de igual prioridad se turnan en Round Robin. Sin
+// envejecimiento, un proceso de baja prioridad espera a que terminen los demás.
+class PriorityPolicy implements SchedulingPolicy {
+    private final long quantum;
+    private final ProcessHeap heap = new ProcessHeap();
+
+    PriorityPolicy(long quantum) {
+        this.quantum = quantum;
+    }
+
+    @Override
+    public void add(Process process) {
+        heap.add(process, process.getPriority());
+    }
+
+    @Override
+    public Process poll() {
+        return heap.poll();
+    }
+
+    @Override
+    public long getTimeSlice(Process process) {
+        return quantum;
+    }
+
+    @Override
+    public void requeue(Process process, Filter outcome) {
+        add(process);
+    }
+
+    @Override
+    public long countPendingCycles(Process process) {
+        return process.getPendingCycles(quantum);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+}
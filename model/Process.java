@@ -7,7 +7,11 @@ public class Process {
     private Status status; 
     private long size;
     private Partition partition;
-    private int cycleCount;
+    private long cycleCount;
+    // Menor valor = mayor prioridad (solo la usa el planificador por prioridad)
+    private int priority;
+    // Instante en que el proceso entra a la cola de listos
+    private long arrivalTime;
 
     public Process(String name, long time, Status status, long size, Partition partition) {
         this.name = name;
@@ -20,7 +24,7 @@ public class Process {
     }
 
     public Process(String name, long originalTime, long remainingTime, Status status, 
-                   long size, Partition partition, int cycleCount) {
+                   long size, Partition partition, long cycleCount) {
         this.name = name;
         this.originalTime = originalTime;
         this.remainingTime = remainingTime;
@@ -41,6 +45,14 @@ public class Process {
         this.cycleCount++;
     }
 
+    public void addCycles(long cycles) {
+        this.cycleCount += cycles;
+    }
+
+    public long getPendingCycles(long quantum) {
+        return remainingTime / quantum + (remainingTime % quantum == 0 ? 0 : 1);
+    }
+
     public boolean isFinished() {
         return remainingTime <= 0;
     }
@@ -82,10 +94,18 @@ public class Process {
         return partition;
     }
 
-    public int getCycleCount() {
+    public long getCycleCount() {
         return cycleCount;
     }
 
+    public int getPriority() {
+        return priority;
+    }
+
+    public long getArrivalTime() {
+        return arrivalTime;
+    }
+
     public String getStatusString() {
         return status == Status.BLOQUEADO ? "Bloqueado" : "No bloqueado";
     }
@@ -112,12 +132,23 @@ public class Process {
         this.partition = partition;
     }
 
-    public void setCycleCount(int cycleCount) {
+    public void setCycleCount(long cycleCount) {
         this.cycleCount = cycleCount;
     }
 
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public void setArrivalTime(long arrivalTime) {
+        this.arrivalTime = arrivalTime;
+    }
+
     public Process clone() {
-        return new Process(name, originalTime, remainingTime, status, size, partition, cycleCount);
+        Process copy = new Process(name, originalTime, remainingTime, status, size, partition, cycleCount);
+        copy.priority = priority;
+        copy.arrivalTime = arrivalTime;
+        return copy;
     }
 
     @Override
@@ -130,6 +161,8 @@ public class Process {
                 ", size=" + size +
                 ", partition=" + (partition != null ? partition.getName() : "null") +
                 ", cycleCount=" + cycleCount +
+                ", priority=" + priority +
+                ", arrivalTime=" + arrivalTime +
                 '}';
     }
 }
\ No newline at end of file
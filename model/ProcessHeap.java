@@ -0,0 +1,97 @@
+package model;
+
+import java.util.Arrays;
+
+// Montículo binario de procesos ordenado por una clave y, a igual clave, por orden
+// de llegada. Guarda claves y secuencias en arreglos paralelos para no crear un
+// objeto por cada inserción.
+class ProcessHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Process[] processes = new Process[DEFAULT_CAPACITY];
+    private long[] keys = new long[DEFAULT_CAPACITY];
+    private long[] sequences = new long[DEFAULT_CAPACITY];
+    private int size;
+    private long nextSequence;
+
+    void add(Process process, long key) {
+        if (size == processes.length) {
+            processes = Arrays.copyOf(processes, size << 1);
+            keys = Arrays.copyOf(keys, size << 1);
+            sequences = Arrays.copyOf(sequences, size << 1);
+        }
+        int index = size++;
+        set(index, process, key, nextSequence++);
+        siftUp(index);
+    }
+
+    Process poll() {
+        if (size == 0) {
+            return null;
+        }
+        Process first = processes[0];
+        size--;
+        if (size > 0) {
+            set(0, processes[size], keys[size], sequences[size]);
+            siftDown(0);
+        }
+        processes[size] = null;
+        return first;
+    }
+
+    Process peek() {
+        return size == 0 ? null : processes[0];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(index, parent)) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                break;
+            }
+            int smallest = left + 1 < size && less(left + 1, left) ? left + 1 : left;
+            if (!less(smallest, index)) {
+                break;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private boolean less(int a, int b) {
+        return keys[a] != keys[b] ? keys[a] < keys[b] : sequences[a] < sequences[b];
+    }
+
+    private void swap(int a, int b) {
+        Process process = processes[a];
+        long key = keys[a];
+        long sequence = sequences[a];
+        set(a, processes[b], keys[b], sequences[b]);
+        set(b, process, key, sequence);
+    }
+
+    private void set(int index, Process process, long key, long sequence) {
+        processes[index] = process;
+        keys[index] = key;
+        sequences[index] = sequence;
+    }
+}
@@ -1,81 +1,127 @@
 package model;
 
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class ProcessManager {
-    private ArrayList<Process> initialProcesses;
-    private ArrayList<Partition> partitions;
-    private ArrayList<Log> executionLogs;
+    private ProcessRegistry registry;
+    private LogStore logStore;
+    private boolean logRetention;
+    private ArrayList<SimulationListener> listeners;
+    private ProgressListener progressListener;
+    private SimulationProgress progress;
+    private boolean parallelPartitions;
+    private SchedulingAlgorithm schedulingAlgorithm;
+    private SchedulerConfig schedulerConfig;
+    private SimulationMetrics metrics;
 
     public ProcessManager() {
-        initialProcesses = new ArrayList<>();
-        partitions = new ArrayList<>();
-        executionLogs = new ArrayList<>();
+        registry = new ProcessRegistry();
+        logStore = new LogStore();
+        logRetention = true;
+        listeners = new ArrayList<>();
+        schedulingAlgorithm = SchedulingAlgorithm.ROUND_ROBIN;
+        schedulerConfig = SchedulerConfig.DEFAULT;
+        metrics = SimulationMetrics.EMPTY;
     }
 
     // particiones
     
+    // Los nombres no distinguen mayúsculas; uno repetido lanza IllegalArgumentException
     public void addPartition(String name, long size) {
-        Partition partition = new Partition(name, size);
-        partitions.add(partition);
+        registry.addPartition(new Partition(name, size));
     }
 
     public boolean partitionExists(String name) {
-        return partitions.stream()
-                .anyMatch(p -> p.getName().equalsIgnoreCase(name.trim()));
+        return registry.findPartition(name) != null;
     }
 
     public void removePartition(String name) {
-        partitions.removeIf(p -> p.getName().equalsIgnoreCase(name.trim()));
+        registry.removePartition(name);
     }
 
     public Partition findPartitionByName(String name) {
-        return partitions.stream()
-                .filter(p -> p.getName().equalsIgnoreCase(name.trim()))
-                .findFirst()
-                .orElse(null);
+        return registry.findPartition(name);
     }
 
     public boolean hasPartitionAssignedProcesses(String partitionName) {
-        return initialProcesses.stream()
-                .anyMatch(p -> p.getPartition() != null && 
-                         p.getPartition().getName().equalsIgnoreCase(partitionName));
+        return registry.hasProcesses(partitionName);
     }
 
     public ArrayList<Partition> getPartitions() {
-        return new ArrayList<>(partitions);
+        return new ArrayList<>(registry.getPartitions());
     }
 
     // procesos
     
     public void addProcess(String name, long time, Status status, long size, Partition partition) {
+        addProcess(name, time, status, size, partition, 0);
+    }
+
+    public void addProcess(String name, long time, Status status, long size, Partition partition, int priority) {
+        addProcess(name, time, status, size, partition, priority, 0);
+    }
+
+    public void addProcess(String name, long time, Status status, long size, Partition partition, int priority,
+                           long arrivalTime) {
         Process process = new Process(name, time, status, size, partition);
-        initialProcesses.add(process);
+        process.setPriority(priority);
+        process.setArrivalTime(arrivalTime);
+        registry.addProcess(process);
         if (partition != null) {
             partition.addProcess(process);
         }
     }
 
     public boolean processExists(String name) {
-        return initialProcesses.stream()
-                .anyMatch(p -> p.getName().equalsIgnoreCase(name.trim()));
+        return registry.findProcess(name) != null;
     }
 
     public void removeProcess(String name) {
-        Process process = findProcessByName(name);
+        Process process = registry.removeProcess(name);
         if (process != null && process.getPartition() != null) {
             process.getPartition().removeProcess(process);
         }
-        initialProcesses.removeIf(p -> p.getName().equalsIgnoreCase(name.trim()));
     }
 
+    // El proceso se busca por nombre en el registro (O(1)); position se conserva por
+    // compatibilidad con la tabla de la interfaz y no se usa para buscarlo
     public void editProcess(int position, String processName, long newTime, Status newStatus, 
                            long newSize, Partition newPartition) {
-        if (position >= 0 && position < initialProcesses.size()) {
-            Process existingProcess = initialProcesses.get(position);
-            
+        Process existingProcess = registry.findProcess(processName);
+        if (existingProcess != null) {
+            editProcess(position, processName, newTime, newStatus, newSize, newPartition,
+                    existingProcess.getPriority());
+        }
+    }
+
+    public void editProcess(int position, String processName, long newTime, Status newStatus,
+                           long newSize, Partition newPartition, int newPriority) {
+        Process existingProcess = registry.findProcess(processName);
+        if (existingProcess != null) {
+            editProcess(position, processName, newTime, newStatus, newSize, newPartition, newPriority,
+                    existingProcess.getArrivalTime());
+        }
+    }
+
+    public void editProcess(int position, String processName, long newTime, Status newStatus,
+                           long newSize, Partition newPartition, int newPriority, long newArrivalTime) {
+        Process existingProcess = registry.findProcess(processName);
+        if (existingProcess != null) {
             if (existingProcess.getName().equalsIgnoreCase(processName)) {
                 // Remover de la partición anterior
                 if (existingProcess.getPartition() != null) {
@@ -86,7 +132,9 @@ public class ProcessManager {
                 existingProcess.setOriginalTime(newTime);
                 existingProcess.setStatus(newStatus);
                 existingProcess.setSize(newSize);
-                existingProcess.setPartition(newPartition);
+                registry.movePartition(existingProcess, newPartition);
+                existingProcess.setPriority(newPriority);
+                existingProcess.setArrivalTime(newArrivalTime);
                 
                 // Agregar a la nueva partición
                 if (newPartition != null) {
@@ -96,49 +144,110 @@ public class ProcessManager {
         }
     }
 
-    private Process findProcessByName(String name) {
-        return initialProcesses.stream()
-                .filter(p -> p.getName().equalsIgnoreCase(name.trim()))
-                .findFirst()
-                .orElse(null);
+    // Importa particiones y procesos de un archivo CSV o JSON (formatos en
+    // WorkloadImporter). Si alguna entrada es inválida lanza IllegalArgumentException
+    // y no agrega ninguna.
+    public ImportResult importWorkload(Path file) throws IOException {
+        return new WorkloadImporter(this).importFile(file);
+    }
+
+    // Guarda particiones, procesos, algoritmo y configuración del planificador en un
+    // archivo binario (formato en ScenarioFile)
+    public void saveScenario(Path file) throws IOException {
+        ScenarioFile.write(file, Scenario.fromProcessManager("", this), schedulingAlgorithm);
+    }
+
+    // Reemplaza el estado actual por el del archivo. Si el archivo no es válido lanza
+    // IOException y el estado no cambia.
+    public void loadScenario(Path file) throws IOException {
+        ScenarioFile scenarioFile = ScenarioFile.read(file);
+        clearAll();
+        schedulingAlgorithm = scenarioFile.getSchedulingAlgorithm();
+        scenarioFile.getScenario().addTo(this);
     }
 
     public boolean isEmpty() {
-        return initialProcesses.isEmpty();
+        return registry.processCount() == 0;
     }
 
     public ArrayList<Process> getInitialProcesses() {
-        return new ArrayList<>(initialProcesses);
+        return new ArrayList<>(registry.getProcesses());
     }
 
     // simulacion
     
+    // Si el hilo que ejecuta la simulación se interrumpe, se detiene lanzando
+    // CancellationException y el registro queda con los ciclos ya ejecutados
     public void runSimulation() {
-        executionLogs.clear();
-        
+        runSimulation(schedulerConfig);
+    }
+
+    public void runSimulation(SchedulerConfig config) {
+        run(config, this::simulate);
+    }
+
+    // Carga abierta: los procesos llegan del generador mientras se simula, con una
+    // sola CPU, y van a la partición del gestor con su nombre; los procesos cargados
+    // en el gestor no participan. Los que terminan se suman a las métricas por
+    // partición y se descartan, asi las métricas por proceso quedan vacías y la
+    // memoria depende solo de los procesos vivos. Para cargas largas conviene
+    // desactivar la retención del registro, que sí crece con cada ciclo.
+    public void runOpenWorkload(WorkloadGenerator generator, SchedulerConfig config) {
+        run(config, () -> simulateOpenWorkload(generator));
+    }
+
+    private void run(SchedulerConfig config, Runnable simulation) {
+        schedulerConfig = config;
+        metrics = SimulationMetrics.EMPTY;
+        logStore.clear(config);
+        for (SimulationListener listener : listeners) {
+            listener.onSimulationStarted();
+        }
+        try {
+            simulation.run();
+        } catch (RuntimeException | Error ex) {
+            for (SimulationListener listener : listeners) {
+                listener.onSimulationFailed(ex);
+            }
+            throw ex;
+        }
+        for (SimulationListener listener : listeners) {
+            listener.onSimulationFinished();
+        }
+    }
+
+    private void simulate() {
         // Registrar procesos iniciales (en orden de entrada, sin ordenar)
-        for (Process p : initialProcesses) {
-            addLog(p, Filter.INICIAL);
+        for (Process p : registry.getProcesses()) {
+            addLog(p, Filter.INICIAL, p.getArrivalTime());
         }
         
         // Registrar particiones
-        for (Partition part : partitions) {
-            if (!part.getAssignedProcesses().isEmpty()) {
-                Process firstProcess = part.getAssignedProcesses().get(0);
-                addLog(firstProcess, Filter.PARTICIONES);
+        for (Partition part : registry.getPartitions()) {
+            Process firstProcess = part.getFirstProcess();
+            if (firstProcess != null) {
+                addLog(firstProcess, Filter.PARTICIONES, 0);
             }
         }
         
         // Separar procesos ejecutables de no ejecutables
         ArrayList<Process> executableProcesses = new ArrayList<>();
+        // Métricas por proceso en orden de entrada; el motor las completa durante la ejecución
+        Map<Process, ProcessMetrics> processMetrics = new IdentityHashMap<>();
+        List<ProcessMetrics> processMetricsInOrder = new ArrayList<>();
         
-        for (Process p : initialProcesses) {
+        for (Process p : registry.getProcesses()) {
             if (!p.fitsInPartition()) {
                 // No cabe en la partición -> No ejecutado
-                addLog(p, Filter.NO_EJECUTADO);
+                addLog(p, Filter.NO_EJECUTADO, p.getArrivalTime());
             } else {
                 // Clonar el proceso para la simulación
-                executableProcesses.add(p.clone());
+                Process clone = p.clone();
+                executableProcesses.add(clone);
+                ProcessMetrics entry = new ProcessMetrics(p.getName(), p.getPartition().getName(),
+                        p.getArrivalTime(), p.getOriginalTime());
+                processMetrics.put(clone, entry);
+                processMetricsInOrder.add(entry);
             }
         }
         
@@ -146,76 +255,362 @@ public class ProcessManager {
         // Todos los procesos juntos, sin importar la partición
         executableProcesses.sort((p1, p2) -> Long.compare(p1.getOriginalTime(), p2.getOriginalTime()));
         
-        // Crear cola global de procesos listos para Round Robin
-        ArrayList<Process> readyQueue = new ArrayList<>(executableProcesses);
+        SchedulingPolicy policy = schedulingAlgorithm.create(schedulerConfig.getQuantum());
+        long totalCycles = SimulationEngine.countPendingCycles(executableProcesses, policy);
+        // Solo Round Robin con llegadas al inicio y sin E/S con duración puede agrupar rondas;
+        // en los demás casos se registra cada despacho
+        if (!SimulationEngine.canCompressRounds(policy, schedulerConfig, executableProcesses)
+                && totalCycles > Constants.MAX_EXPANDED_CYCLES) {
+            String reason = schedulingAlgorithm == SchedulingAlgorithm.ROUND_ROBIN
+                    ? "llegadas escalonadas o bloqueo por E/S" : schedulingAlgorithm.getName();
+            throw new IllegalStateException("La carga requiere más de "
+                    + Constants.MAX_EXPANDED_CYCLES + " ciclos; con " + reason
+                    + " solo se pueden simular cargas más pequeñas");
+        }
+        progress = new SimulationProgress(totalCycles, progressListener);
+        progress.publish(0);
+        
+        Map<Partition, SimulationEngine> engines = new IdentityHashMap<>();
+        SimulationEngine globalEngine = null;
+        if (parallelPartitions) {
+            executePartitionsInParallel(executableProcesses, processMetrics, engines);
+        } else {
+            // Ejecutar la planificación global (todos los procesos juntos)
+            globalEngine = createEngine(this::addCycle, processMetrics);
+            globalEngine.run(executableProcesses);
+        }
         
-        // Ejecutar Round Robin global (todos los procesos juntos)
-        executeRoundRobin(readyQueue);
+        metrics = buildMetrics(processMetricsInOrder, globalEngine, engines);
     }
 
-    private void executeRoundRobin(ArrayList<Process> readyQueue) {
-        while (!readyQueue.isEmpty()) {
-            // Tomar el primer proceso de la cola
-            Process currentProcess = readyQueue.remove(0);
-            
+    private void simulateOpenWorkload(WorkloadGenerator generator) {
+        Map<String, PartitionMetrics> byName = new LinkedHashMap<>();
+        for (Partition partition : registry.getPartitions()) {
+            byName.putIfAbsent(partition.getName(), new PartitionMetrics(partition.getName(), 0));
+        }
+        // El total de ciclos no se conoce de antemano
+        progress = new SimulationProgress(0, progressListener);
+        progress.publish(0);
+
+        Map<Process, ProcessMetrics> processMetrics = new IdentityHashMap<>();
+        SimulationEngine engine = createEngine(this::addCycle, processMetrics);
+        engine.run(new OpenArrivals(generator, processMetrics),
+                entry -> byName.get(entry.getPartitionName()).add(entry));
+
+        long clock = engine.getClock();
+        for (PartitionMetrics partitionMetrics : byName.values()) {
+            partitionMetrics.setElapsedTime(clock);
+        }
+        metrics = new SimulationMetrics(new ArrayList<>(byName.values()), clock, clock, engine.getIdleTime());
+    }
+
+    private SimulationEngine createEngine(CycleSink sink, Map<Process, ProcessMetrics> processMetrics) {
+        return new SimulationEngine(sink, schedulingAlgorithm.create(schedulerConfig.getQuantum()),
+                schedulerConfig, progress, processMetrics);
+    }
+
+    // Con una CPU global todas las particiones comparten su reloj; en paralelo cada
+    // partición usa el de su propio motor
+    private SimulationMetrics buildMetrics(List<ProcessMetrics> processMetrics, SimulationEngine globalEngine,
+                                           Map<Partition, SimulationEngine> partitionEngines) {
+        long simulationTime = 0;
+        long cpuTime = 0;
+        long idleTime = 0;
+        if (globalEngine != null) {
+            simulationTime = globalEngine.getClock();
+            cpuTime = simulationTime;
+            idleTime = globalEngine.getIdleTime();
+        }
+        for (SimulationEngine engine : partitionEngines.values()) {
+            simulationTime = Math.max(simulationTime, engine.getClock());
+            cpuTime = TimeMath.saturatedAdd(cpuTime, engine.getClock());
+            idleTime = TimeMath.saturatedAdd(idleTime, engine.getIdleTime());
+        }
         
-            addLog(currentProcess, Filter.LISTO);
-            
-            // Despachar
-            addLog(currentProcess, Filter.DESPACHAR);
-            
-          
-            addLog(currentProcess, Filter.EN_EJECUCION);
-            
-            
-            currentProcess.subtractTime(Constants.QUANTUM_TIME);
-            currentProcess.incrementCycle();
-            
-           
-            if (currentProcess.isFinished()) {
-                addLog(currentProcess, Filter.FINALIZADO);
-                continue; 
+        Map<String, PartitionMetrics> byName = new LinkedHashMap<>();
+        for (Partition partition : registry.getPartitions()) {
+            SimulationEngine engine = globalEngine != null ? globalEngine : partitionEngines.get(partition);
+            byName.putIfAbsent(partition.getName(),
+                    new PartitionMetrics(partition.getName(), engine != null ? engine.getClock() : 0));
+        }
+        for (ProcessMetrics entry : processMetrics) {
+            PartitionMetrics partitionMetrics = byName.get(entry.getPartitionName());
+            if (partitionMetrics != null) {
+                partitionMetrics.add(entry);
             }
-            
-           
-            if (currentProcess.isBlocked()) {
-                addLog(currentProcess, Filter.TRANSICION_BLOQUEO);
-                addLog(currentProcess, Filter.BLOQUEADO);
-                addLog(currentProcess, Filter.DESPERTAR);
-               
-                readyQueue.add(currentProcess);
-            } else {
-                
-                addLog(currentProcess, Filter.TIEMPO_EXPIRADO);
-               
-                readyQueue.add(currentProcess);
+        }
+        return new SimulationMetrics(processMetrics, new ArrayList<>(byName.values()), simulationTime, cpuTime,
+                idleTime);
+    }
+
+    // Cada partición tiene su propia CPU: sus procesos se planifican entre ellos
+    // en un hilo aparte y los ciclos se guardan en un búfer por partición.
+    // Al terminar, los búferes se mezclan por el instante de inicio de cada ciclo en
+    // el reloj de su CPU (empates por orden de partición), asi el registro resultante
+    // no depende de cómo se repartieron los hilos.
+    private void executePartitionsInParallel(List<Process> executableProcesses,
+                                             Map<Process, ProcessMetrics> processMetrics,
+                                             Map<Partition, SimulationEngine> engines) {
+        Map<Partition, List<Process>> processesByPartition = new LinkedHashMap<>();
+        for (Process p : executableProcesses) {
+            processesByPartition.computeIfAbsent(p.getPartition(), k -> new ArrayList<>()).add(p);
+        }
+        if (processesByPartition.isEmpty()) {
+            return;
+        }
+        
+        // Sin registro ni listeners que los acepten no hace falta guardar los ciclos
+        boolean recordCycles = logRetention || isListened();
+        List<CycleBuffer> buffers = new ArrayList<>();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Map.Entry<Partition, List<Process>> partitionProcesses : processesByPartition.entrySet()) {
+            List<Process> processes = partitionProcesses.getValue();
+            CycleBuffer buffer = new CycleBuffer();
+            buffers.add(buffer);
+            SimulationEngine engine = createEngine(recordCycles ? buffer : (p, c, r, t, o, n, s, d, io) -> { },
+                    processMetrics);
+            engines.put(partitionProcesses.getKey(), engine);
+            tasks.add(() -> {
+                engine.run(processes);
+                return null;
+            });
+        }
+        
+        int threads = Math.min(buffers.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            throw new CancellationException("Simulación cancelada");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        // Los listeners reciben los ciclos recién aquí, no en vivo mientras simula
+        if (recordCycles) {
+            CycleBuffer.merge(buffers, this::addCycle);
+        }
+    }
+
+    // El registro en memoria es solo uno de los destinos: con la retención
+    // desactivada los eventos llegan únicamente a los listeners
+    private void addLog(Process process, Filter filter, long time) {
+        if (logRetention) {
+            logStore.addLog(process, filter, time);
+        }
+        if (isListened(filter)) {
+            notifyListeners(new Log(process, filter, time));
+        }
+    }
+
+    private void addCycle(Process process, long cycleCount, long remainingTime, long timeSlice,
+                          Filter outcome, long repetitions, long startTime, long period, long ioTime) {
+        if (logRetention) {
+            logStore.addCycle(process, cycleCount, remainingTime, timeSlice, outcome, repetitions,
+                    startTime, period, ioTime);
+        }
+        if (!listeners.isEmpty()) {
+            for (Filter filter : LogStore.cycleFilters(outcome)) {
+                if (isListened(filter)) {
+                    notifyListeners(LogStore.createCycleLog(process, filter, cycleCount, remainingTime,
+                            timeSlice, repetitions, startTime, period, ioTime, schedulerConfig));
+                }
+            }
+        }
+    }
+
+    private boolean isListened() {
+        for (Filter filter : Filter.values()) {
+            if (isListened(filter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isListened(Filter filter) {
+        for (SimulationListener listener : listeners) {
+            if (listener.accepts(filter)) {
+                return true;
             }
         }
+        return false;
+    }
+
+    private void notifyListeners(Log log) {
+        for (SimulationListener listener : listeners) {
+            if (listener.accepts(log.getFilter())) {
+                listener.onLog(log);
+            }
+        }
+    }
+
+    // listeners
+    
+    public void addSimulationListener(SimulationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeSimulationListener(SimulationListener listener) {
+        listeners.remove(listener);
+    }
+
+    // Ciclos de CPU ejecutados en la última simulación
+    public long getCompletedCycles() {
+        return progress != null ? progress.getCompletedCycles() : 0;
+    }
+
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public void setLogRetention(boolean logRetention) {
+        this.logRetention = logRetention;
+    }
+
+    public boolean isLogRetention() {
+        return logRetention;
+    }
+
+    // Con particiones en paralelo cada partición se simula con su propia CPU.
+    // El ProgressListener puede entonces recibir avisos desde varios hilos.
+    public void setParallelPartitions(boolean parallelPartitions) {
+        this.parallelPartitions = parallelPartitions;
+    }
+
+    public boolean isParallelPartitions() {
+        return parallelPartitions;
+    }
+
+    public void setSchedulingAlgorithm(SchedulingAlgorithm schedulingAlgorithm) {
+        this.schedulingAlgorithm = schedulingAlgorithm;
+    }
+
+    public SchedulingAlgorithm getSchedulingAlgorithm() {
+        return schedulingAlgorithm;
+    }
+
+    // Configuración que usa runSimulation() sin argumentos
+    public void setSchedulerConfig(SchedulerConfig schedulerConfig) {
+        this.schedulerConfig = schedulerConfig;
+    }
+
+    public SchedulerConfig getSchedulerConfig() {
+        return schedulerConfig;
+    }
+
+    // Barrido de quantum sobre la carga actual con el algoritmo y los costos configurados
+    public QuantumSweep.Result sweepQuantum(long fromQuantum, long toQuantum, long step) {
+        return new QuantumSweep(schedulingAlgorithm, schedulerConfig)
+                .run(Scenario.fromProcessManager("", this), fromQuantum, toQuantum, step);
+    }
+
+    // Reloj de la CPU al terminar la última simulación (el mayor entre particiones en paralelo)
+    public long getSimulationTime() {
+        return metrics.getSimulationTime();
     }
 
-    private void addLog(Process process, Filter filter) {
-        Log log = new Log(process, filter);
-        executionLogs.add(log);
+    // Tiempo de retorno promedio de los procesos ejecutados en la última simulación
+    public double getAverageTurnaroundTime() {
+        return metrics.getAverageTurnaroundTime();
+    }
+
+    // Métricas de planificación de la última simulación completa
+    public SimulationMetrics getMetrics() {
+        return metrics;
     }
 
     // logs
     
     public List<Log> getLogsByFilter(Filter filter) {
-        return executionLogs.stream()
-                .filter(log -> log.getFilter() == filter)
-                .collect(Collectors.toList());
+        return logStore.getLogsByFilter(filter);
     }
 
     public List<Log> getLogsByFilterAndPartition(Filter filter, String partitionName) {
-        return executionLogs.stream()
-                .filter(log -> log.getFilter() == filter && 
-                       log.getPartition() != null &&
-                       log.getPartition().getName().equalsIgnoreCase(partitionName))
-                .collect(Collectors.toList());
+        return logStore.getLogsByFilterAndPartition(filter, partitionName);
+    }
+
+    // Registros del filtro ocurridos en [from, to) del reloj simulado
+    public List<Log> getLogsByFilterBetween(Filter filter, long from, long to) {
+        return logStore.getLogsByFilterBetween(filter, from, to);
+    }
+
+    public List<Log> getLogsByFilterAndPartitionBetween(Filter filter, String partitionName, long from, long to) {
+        return logStore.getLogsByFilterAndPartitionBetween(filter, partitionName, from, to);
     }
 
     public ArrayList<Log> getAllLogs() {
-        return new ArrayList<>(executionLogs);
+        return logStore.getAllLogs();
+    }
+
+    // Registros del filtro en la última simulación, fijos aunque después se simule otra
+    public LogStore.FilterLog getFilterLog(Filter filter) {
+        return logStore.getFilterLog(filter);
+    }
+
+    // Exporta el registro de la última simulación sin copiarlo a memoria: los de un
+    // Filter o, con null, todos. Los archivos .col usan el formato columnar de
+    // LogExporter y el resto CSV. Devuelve la cantidad de registros escritos.
+    public long exportLogs(Path file, Filter filter) throws IOException {
+        return LogExporter.export(logStore, filter, file);
+    }
+
+    // Igual que exportLogs pero en CSV sobre un canal ya abierto, que no se cierra
+    public long exportLogsCsv(WritableByteChannel channel, Filter filter) throws IOException {
+        return LogExporter.exportCsv(logStore, filter, channel);
+    }
+
+    // Convierte cada proceso del generador en uno de la simulación: resuelve su
+    // partición, registra los que no caben como no ejecutados y crea sus métricas
+    private final class OpenArrivals implements Supplier<Process> {
+        private final WorkloadGenerator generator;
+        private final Map<Process, ProcessMetrics> processMetrics;
+        private long lastArrival;
+
+        OpenArrivals(WorkloadGenerator generator, Map<Process, ProcessMetrics> processMetrics) {
+            this.generator = generator;
+            this.processMetrics = processMetrics;
+        }
+
+        @Override
+        public Process get() {
+            Scenario.ProcessSpec spec;
+            while ((spec = generator.next()) != null) {
+                if (spec.getArrivalTime() < lastArrival) {
+                    throw new IllegalArgumentException("El proceso " + spec.getName()
+                            + " llega antes que el anterior");
+                }
+                lastArrival = spec.getArrivalTime();
+                Partition partition = spec.getPartitionName() != null
+                        ? findPartitionByName(spec.getPartitionName())
+                        : null;
+                Process process = new Process(spec.getName(), spec.getTime(), spec.getStatus(), spec.getSize(),
+                        partition);
+                process.setPriority(spec.getPriority());
+                process.setArrivalTime(spec.getArrivalTime());
+                addLog(process, Filter.INICIAL, process.getArrivalTime());
+                if (!process.fitsInPartition()) {
+                    addLog(process, Filter.NO_EJECUTADO, process.getArrivalTime());
+                    continue;
+                }
+                processMetrics.put(process, new ProcessMetrics(process.getName(), partition.getName(),
+                        process.getArrivalTime(), process.getOriginalTime()));
+                return process;
+            }
+            return null;
+        }
     }
 
     // Informe de finalización de particiones
@@ -223,7 +618,7 @@ public class ProcessManager {
     public List<PartitionFinalizationInfo> getPartitionFinalizationReport() {
         List<PartitionFinalizationInfo> report = new ArrayList<>();
         
-        for (Partition partition : partitions) {
+        for (Partition partition : registry.getPartitions()) {
             // Obtener solo procesos ejecutables (que caben en la partición)
             List<Process> executableProcesses = partition.getAssignedProcesses().stream()
                     .filter(p -> p.getSize() <= partition.getSize())
@@ -277,15 +672,30 @@ public class ProcessManager {
         public long getTotalTime() { return totalTime; }
     }
 
+    // Cantidad de entradas agregadas por importWorkload
+    public static class ImportResult {
+        private int partitionCount;
+        private int processCount;
+
+        public ImportResult(int partitionCount, int processCount) {
+            this.partitionCount = partitionCount;
+            this.processCount = processCount;
+        }
+
+        public int getPartitionCount() { return partitionCount; }
+        public int getProcessCount() { return processCount; }
+    }
+
     // ========== LIMPIEZA ==========
     
     public void clearAll() {
-        initialProcesses.clear();
-        partitions.clear();
-        executionLogs.clear();
+        registry.clear();
+        logStore.clear();
+        metrics = SimulationMetrics.EMPTY;
     }
 
     public void clearLogs() {
-        executionLogs.clear();
+        logStore.clear();
+        metrics = SimulationMetrics.EMPTY;
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package model;
+
+// Métricas de planificación de un proceso, registradas por el motor durante la
+// simulación. Los tiempos están en unidades del reloj simulado.
+public class ProcessMetrics {
+    private String processName;
+    private String partitionName;
+    private long arrivalTime;
+    private long burstTime;
+    private long firstDispatchTime;
+    private long completionTime;
+    private long ioTime;
+    private long dispatches;
+
+    public ProcessMetrics(String processName, String partitionName, long arrivalTime, long burstTime) {
+        this.processName = processName;
+        this.partitionName = partitionName;
+        this.arrivalTime = arrivalTime;
+        this.burstTime = burstTime;
+        this.firstDispatchTime = -1;
+        this.completionTime = -1;
+    }
+
+    void recordDispatch(long time, long count) {
+        if (firstDispatchTime < 0) {
+            firstDispatchTime = time;
+        }
+        dispatches += count;
+    }
+
+    void recordIo(long time) {
+        ioTime = TimeMath.saturatedAdd(ioTime, time);
+    }
+
+    void recordCompletion(long time) {
+        completionTime = time;
+    }
+
+    public boolean isCompleted() {
+        return completionTime >= 0;
+    }
+
+    public String getProcessName() {
+        return processName;
+    }
+
+    public String getPartitionName() {
+        return partitionName;
+    }
+
+    public long getArrivalTime() {
+        return arrivalTime;
+    }
+
+    public long getBurstTime() {
+        return burstTime;
+    }
+
+    public long getFirstDispatchTime() {
+        return firstDispatchTime;
+    }
+
+    public long getCompletionTime() {
+        return completionTime;
+    }
+
+    public long getIoTime() {
+        return ioTime;
+    }
+
+    public long getDispatches() {
+        return dispatches;
+    }
+
+    // Retorno: desde la llegada hasta la finalización
+    public long getTurnaroundTime() {
+        return isCompleted() ? completionTime - arrivalTime : -1;
+    }
+
+    // Espera: tiempo en la cola de listos (retorno menos CPU y E/S propias)
+    public long getWaitingTime() {
+        return isCompleted() ? Math.max(0, getTurnaroundTime() - burstTime - ioTime) : -1;
+    }
+
+    // Respuesta: desde la llegada hasta el primer despacho
+    public long getResponseTime() {
+        return firstDispatchTime >= 0 ? firstDispatchTime - arrivalTime : -1;
+    }
+}
@@ -0,0 +1,113 @@
+package model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Particiones y procesos de ProcessManager indexados por nombre normalizado (sin
+// espacios al borde y sin distinguir mayúsculas), más los procesos de cada partición.
+// Buscar, agregar y quitar cuesta O(1) y el recorrido conserva el orden de entrada,
+// que es el del registro "Inicial". Los nombres son únicos dentro de cada tipo.
+class ProcessRegistry {
+    private final Map<String, Partition> partitions = new LinkedHashMap<>();
+    private final Map<String, Process> processes = new LinkedHashMap<>();
+    // Por nombre de partición, para consultar aunque la partición ya no esté registrada
+    private final Map<String, Set<Process>> processesByPartition = new HashMap<>();
+
+    static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // particiones
+
+    void addPartition(Partition partition) {
+        if (partitions.putIfAbsent(key(partition.getName()), partition) != null) {
+            throw new IllegalArgumentException("Ya existe una partición con el nombre " + partition.getName());
+        }
+    }
+
+    Partition findPartition(String name) {
+        return partitions.get(key(name));
+    }
+
+    Partition removePartition(String name) {
+        return partitions.remove(key(name));
+    }
+
+    Collection<Partition> getPartitions() {
+        return Collections.unmodifiableCollection(partitions.values());
+    }
+
+    boolean hasProcesses(String partitionName) {
+        Set<Process> assigned = processesByPartition.get(key(partitionName));
+        return assigned != null && !assigned.isEmpty();
+    }
+
+    // procesos
+
+    void addProcess(Process process) {
+        if (processes.putIfAbsent(key(process.getName()), process) != null) {
+            throw new IllegalArgumentException("Ya existe un proceso con el nombre " + process.getName());
+        }
+        index(process);
+    }
+
+    Process findProcess(String name) {
+        return processes.get(key(name));
+    }
+
+    Process removeProcess(String name) {
+        Process process = processes.remove(key(name));
+        if (process != null) {
+            unindex(process);
+        }
+        return process;
+    }
+
+    // Cambia la partición del proceso manteniendo el índice por partición
+    void movePartition(Process process, Partition partition) {
+        unindex(process);
+        process.setPartition(partition);
+        index(process);
+    }
+
+    Collection<Process> getProcesses() {
+        return Collections.unmodifiableCollection(processes.values());
+    }
+
+    int processCount() {
+        return processes.size();
+    }
+
+    void clear() {
+        partitions.clear();
+        processes.clear();
+        processesByPartition.clear();
+    }
+
+    private void index(Process process) {
+        if (process.getPartition() != null) {
+            processesByPartition.computeIfAbsent(key(process.getPartition().getName()), k -> new LinkedHashSet<>())
+                    .add(process);
+        }
+    }
+
+    private void unindex(Process process) {
+        if (process.getPartition() == null) {
+            return;
+        }
+        String partitionKey = key(process.getPartition().getName());
+        Set<Process> assigned = processesByPartition.get(partitionKey);
+        if (assigned != null) {
+            assigned.remove(process);
+            if (assigned.isEmpty()) {
+                processesByPartition.remove(partitionKey);
+            }
+        }
+    }
+}
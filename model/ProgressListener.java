@@ -0,0 +1,6 @@
+package model;
+
+// Avance de la simulacion en ciclos de CPU ejecutados sobre el total previsto
+public interface ProgressListener {
+    void onProgress(long completedCycles, long totalCycles);
+}
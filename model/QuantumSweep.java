@@ -0,0 +1,88 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Barrido de quantum: simula la misma carga con cada quantum del rango (sin
+// registro en memoria) e informa cuál minimiza el tiempo de retorno promedio.
+public class QuantumSweep {
+    // Límite de simulaciones por barrido
+    public static final int MAX_POINTS = 1000;
+
+    private final SchedulingAlgorithm schedulingAlgorithm;
+    private final SchedulerConfig baseConfig;
+    private ProgressListener progressListener;
+
+    public QuantumSweep(SchedulingAlgorithm schedulingAlgorithm, SchedulerConfig baseConfig) {
+        this.schedulingAlgorithm = schedulingAlgorithm;
+        this.baseConfig = baseConfig;
+    }
+
+    // Se informa una unidad de avance por cada quantum simulado
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public Result run(Scenario scenario, long fromQuantum, long toQuantum, long step) {
+        if (fromQuantum <= 0 || toQuantum < fromQuantum || step <= 0) {
+            throw new IllegalArgumentException("Rango de quantum inválido");
+        }
+        long pointCount = (toQuantum - fromQuantum) / step + 1;
+        if (pointCount > MAX_POINTS) {
+            throw new IllegalArgumentException("El barrido no puede superar " + MAX_POINTS + " valores de quantum");
+        }
+
+        List<Point> points = new ArrayList<>();
+        for (long quantum = fromQuantum; quantum <= toQuantum && quantum > 0; quantum += step) {
+            ProcessManager processManager = scenario.toProcessManager();
+            processManager.setLogRetention(false);
+            processManager.setSchedulingAlgorithm(schedulingAlgorithm);
+            processManager.runSimulation(baseConfig.withQuantum(quantum));
+
+            points.add(new Point(quantum, processManager.getAverageTurnaroundTime(),
+                    processManager.getSimulationTime(), processManager.getCompletedCycles()));
+            if (progressListener != null) {
+                progressListener.onProgress(points.size(), pointCount);
+            }
+        }
+        return new Result(points);
+    }
+
+    public static class Point {
+        private long quantum;
+        private double averageTurnaroundTime;
+        private long simulationTime;
+        private long cycles;
+
+        public Point(long quantum, double averageTurnaroundTime, long simulationTime, long cycles) {
+            this.quantum = quantum;
+            this.averageTurnaroundTime = averageTurnaroundTime;
+            this.simulationTime = simulationTime;
+            this.cycles = cycles;
+        }
+
+        public long getQuantum() { return quantum; }
+        public double getAverageTurnaroundTime() { return averageTurnaroundTime; }
+        public long getSimulationTime() { return simulationTime; }
+        public long getCycles() { return cycles; }
+    }
+
+    public static class Result {
+        private List<Point> points;
+        private Point best;
+
+        public Result(List<Point> points) {
+            this.points = Collections.unmodifiableList(new ArrayList<>(points));
+            // A igual retorno promedio gana el quantum menor (el primero del rango)
+            for (Point point : points) {
+                if (best == null || point.getAverageTurnaroundTime() < best.getAverageTurnaroundTime()) {
+                    best = point;
+                }
+            }
+        }
+
+        public List<Point> getPoints() { return points; }
+        public Point getBest() { return best; }
+    }
+}
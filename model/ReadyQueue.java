@@ -0,0 +1,79 @@
+package model;
+
+// Cola de listos FIFO: los procesos se registran una vez en una tabla de slots
+// y la cola circula solo indices enteros, asi encolar y desencolar es O(1)
+public class ReadyQueue {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Process[] slots;
+    private int slotCount;
+    private int[] ring;
+    private int head;
+    private int size;
+
+    public ReadyQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ReadyQueue(int capacity) {
+        int ringCapacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, capacity) - 1) << 1;
+        this.slots = new Process[ringCapacity];
+        this.ring = new int[ringCapacity];
+    }
+
+    // Registra el proceso en un slot nuevo y lo encola
+    public int add(Process process) {
+        if (slotCount == slots.length) {
+            Process[] grown = new Process[slots.length << 1];
+            System.arraycopy(slots, 0, grown, 0, slotCount);
+            slots = grown;
+        }
+        slots[slotCount] = process;
+        offer(slotCount);
+        return slotCount++;
+    }
+
+    public void offer(int slot) {
+        if (size == ring.length) {
+            grow();
+        }
+        ring[(head + size) & (ring.length - 1)] = slot;
+        size++;
+    }
+
+    public int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        int slot = ring[head];
+        head = (head + 1) & (ring.length - 1);
+        size--;
+        return slot;
+    }
+
+    // Slot en la posicion 'index' contando desde el frente de la cola
+    public int slotAt(int index) {
+        return ring[(head + index) & (ring.length - 1)];
+    }
+
+    public Process get(int slot) {
+        return slots[slot];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        int[] grown = new int[ring.length << 1];
+        int firstPart = Math.min(size, ring.length - head);
+        System.arraycopy(ring, head, grown, 0, firstPart);
+        System.arraycopy(ring, 0, grown, firstPart, size - firstPart);
+        ring = grown;
+        head = 0;
+    }
+}
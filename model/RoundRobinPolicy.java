@@ -0,0 +1,52 @@
+package model;
+
+import java.util.ArrayDeque;
+
+// Round Robin: cola FIFO y el mismo quantum para todos los procesos
+class RoundRobinPolicy implements SchedulingPolicy {
+    private final long quantum;
+    private final ArrayDeque<Process> queue = new ArrayDeque<>();
+
+    RoundRobinPolicy(long quantum) {
+        this.quantum = quantum;
+    }
+
+    @Override
+    public void add(Process process) {
+        queue.addLast(process);
+    }
+
+    @Override
+    public Process poll() {
+        return queue.pollFirst();
+    }
+
+    @Override
+    public long getTimeSlice(Process process) {
+        return quantum;
+    }
+
+    @Override
+    public void requeue(Process process, Filter outcome) {
+        queue.addLast(process);
+    }
+
+    @Override
+    public long countPendingCycles(Process process) {
+        return process.getPendingCycles(quantum);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    long getQuantum() {
+        return quantum;
+    }
+}
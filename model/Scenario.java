@@ -0,0 +1,138 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Copia inmutable de una carga de trabajo (particiones y procesos). Cada simulación
+// construye sus propios Partition y Process a partir de ella, asi varios escenarios
+// pueden ejecutarse a la vez sin compartir estado mutable.
+public final class Scenario {
+    private final String name;
+    private final List<PartitionSpec> partitions;
+    private final List<ProcessSpec> processes;
+    private final SchedulerConfig schedulerConfig;
+
+    public Scenario(String name, List<PartitionSpec> partitions, List<ProcessSpec> processes) {
+        this(name, partitions, processes, SchedulerConfig.DEFAULT);
+    }
+
+    public Scenario(String name, List<PartitionSpec> partitions, List<ProcessSpec> processes,
+                    SchedulerConfig schedulerConfig) {
+        this.name = name;
+        this.partitions = Collections.unmodifiableList(new ArrayList<>(partitions));
+        this.processes = Collections.unmodifiableList(new ArrayList<>(processes));
+        this.schedulerConfig = schedulerConfig;
+    }
+
+    public static Scenario fromProcessManager(String name, ProcessManager processManager) {
+        List<PartitionSpec> partitions = new ArrayList<>();
+        for (Partition partition : processManager.getPartitions()) {
+            partitions.add(new PartitionSpec(partition.getName(), partition.getSize()));
+        }
+        List<ProcessSpec> processes = new ArrayList<>();
+        for (Process process : processManager.getInitialProcesses()) {
+            Partition partition = process.getPartition();
+            processes.add(new ProcessSpec(process.getName(), process.getOriginalTime(), process.getStatus(),
+                    process.getSize(), partition != null ? partition.getName() : null, process.getPriority(),
+                    process.getArrivalTime()));
+        }
+        return new Scenario(name, partitions, processes, processManager.getSchedulerConfig());
+    }
+
+    public ProcessManager toProcessManager() {
+        ProcessManager processManager = new ProcessManager();
+        addTo(processManager);
+        return processManager;
+    }
+
+    // Agrega las particiones y procesos al gestor y le fija la configuración
+    void addTo(ProcessManager processManager) {
+        processManager.setSchedulerConfig(schedulerConfig);
+        for (PartitionSpec partition : partitions) {
+            processManager.addPartition(partition.getName(), partition.getSize());
+        }
+        for (ProcessSpec process : processes) {
+            Partition partition = process.getPartitionName() != null
+                    ? processManager.findPartitionByName(process.getPartitionName())
+                    : null;
+            processManager.addProcess(process.getName(), process.getTime(), process.getStatus(),
+                    process.getSize(), partition, process.getPriority(), process.getArrivalTime());
+        }
+    }
+
+    // Procesos que no caben en su partición y por tanto no se ejecutan
+    public int countNotExecutable() {
+        Map<String, Long> partitionSizes = new HashMap<>();
+        for (PartitionSpec partition : partitions) {
+            partitionSizes.putIfAbsent(ProcessRegistry.key(partition.getName()), partition.getSize());
+        }
+        int count = 0;
+        for (ProcessSpec process : processes) {
+            Long partitionSize = process.getPartitionName() != null
+                    ? partitionSizes.get(ProcessRegistry.key(process.getPartitionName()))
+                    : null;
+            if (partitionSize == null || process.getSize() > partitionSize) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public String getName() { return name; }
+    public List<PartitionSpec> getPartitions() { return partitions; }
+    public List<ProcessSpec> getProcesses() { return processes; }
+    public SchedulerConfig getSchedulerConfig() { return schedulerConfig; }
+
+    public static final class PartitionSpec {
+        private final String name;
+        private final long size;
+
+        public PartitionSpec(String name, long size) {
+            this.name = name;
+            this.size = size;
+        }
+
+        public String getName() { return name; }
+        public long getSize() { return size; }
+    }
+
+    public static final class ProcessSpec {
+        private final String name;
+        private final long time;
+        private final Status status;
+        private final long size;
+        private final String partitionName;
+        private final int priority;
+        private final long arrivalTime;
+
+        public ProcessSpec(String name, long time, Status status, long size, String partitionName) {
+            this(name, time, status, size, partitionName, 0);
+        }
+
+        public ProcessSpec(String name, long time, Status status, long size, String partitionName, int priority) {
+            this(name, time, status, size, partitionName, priority, 0);
+        }
+
+        public ProcessSpec(String name, long time, Status status, long size, String partitionName, int priority,
+                           long arrivalTime) {
+            this.name = name;
+            this.time = time;
+            this.status = status;
+            this.size = size;
+            this.partitionName = partitionName;
+            this.priority = priority;
+            this.arrivalTime = arrivalTime;
+        }
+
+        public String getName() { return name; }
+        public long getTime() { return time; }
+        public Status getStatus() { return status; }
+        public long getSize() { return size; }
+        public String getPartitionName() { return partitionName; }
+        public int getPriority() { return priority; }
+        public long getArrivalTime() { return arrivalTime; }
+    }
+}
@@ -0,0 +1,215 @@
+package model;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Escenario guardado en binario (ver ProcessManager.saveScenario/loadScenario).
+// Todos los enteros van en orden big-endian y los textos como longitud int + UTF-8:
+//
+//   int     MAGIC, int versión
+//   texto   algoritmo (nombre del enum)
+//   long    quantum, cambio de contexto, bloqueo por E/S; int dispositivos de E/S
+//   int     n particiones, y por cada una: texto nombre, long tamaño
+//   int     n procesos, y por cada uno: texto nombre, long tiempo, byte bloqueado (0/1),
+//           long tamaño, int índice de partición (-1 sin partición), int prioridad,
+//           long llegada
+//
+// Se escribe con un FileChannel y un ChannelWriter. Al leer, los archivos grandes se
+// mapean en memoria en lugar de copiarse a un búfer. Una versión distinta de
+// VERSION o datos incoherentes se rechazan con IOException.
+final class ScenarioFile {
+    private static final int MAGIC = 0x53505343; // "SPSC"
+    private static final int VERSION = 1;
+    // Por encima de este tamaño el archivo se mapea en memoria
+    private static final long MAP_THRESHOLD = 1 << 20;
+
+    private final Scenario scenario;
+    private final SchedulingAlgorithm schedulingAlgorithm;
+
+    private ScenarioFile(Scenario scenario, SchedulingAlgorithm schedulingAlgorithm) {
+        this.scenario = scenario;
+        this.schedulingAlgorithm = schedulingAlgorithm;
+    }
+
+    Scenario getScenario() {
+        return scenario;
+    }
+
+    SchedulingAlgorithm getSchedulingAlgorithm() {
+        return schedulingAlgorithm;
+    }
+
+    // escritura
+
+    // Se escribe en un archivo temporal junto al destino y se mueve sobre él al terminar,
+    // asi un error a mitad de escritura no deja un escenario truncado
+    static void write(Path file, Scenario scenario, SchedulingAlgorithm schedulingAlgorithm) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            writeTo(temp, scenario, schedulingAlgorithm);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeTo(Path file, Scenario scenario, SchedulingAlgorithm schedulingAlgorithm)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChannelWriter writer = new ChannelWriter(channel);
+            writer.putInt(MAGIC);
+            writer.putInt(VERSION);
+            writer.putString(schedulingAlgorithm.name());
+            SchedulerConfig config = scenario.getSchedulerConfig();
+            writer.putLong(config.getQuantum());
+            writer.putLong(config.getContextSwitchTime());
+            writer.putLong(config.getIoBlockTime());
+            writer.putInt(config.getIoDevices());
+
+            Map<String, Integer> partitionIndexes = new HashMap<>();
+            List<Scenario.PartitionSpec> partitions = scenario.getPartitions();
+            writer.putInt(partitions.size());
+            for (int i = 0; i < partitions.size(); i++) {
+                Scenario.PartitionSpec partition = partitions.get(i);
+                partitionIndexes.putIfAbsent(ProcessRegistry.key(partition.getName()), i);
+                writer.putString(partition.getName());
+                writer.putLong(partition.getSize());
+            }
+
+            writer.putInt(scenario.getProcesses().size());
+            for (Scenario.ProcessSpec process : scenario.getProcesses()) {
+                Integer partitionIndex = process.getPartitionName() != null
+                        ? partitionIndexes.get(ProcessRegistry.key(process.getPartitionName()))
+                        : null;
+                writer.putString(process.getName());
+                writer.putLong(process.getTime());
+                writer.putByte(process.getStatus() == Status.BLOQUEADO ? 1 : 0);
+                writer.putLong(process.getSize());
+                writer.putInt(partitionIndex != null ? partitionIndex : -1);
+                writer.putInt(process.getPriority());
+                writer.putLong(process.getArrivalTime());
+            }
+            writer.flush();
+            channel.force(true);
+        }
+    }
+
+    // lectura
+
+    static ScenarioFile read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("El archivo de escenario es demasiado grande");
+            }
+            ByteBuffer buffer;
+            if (size > MAP_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        break;
+                    }
+                }
+                buffer.flip();
+            }
+            try {
+                return decode(buffer);
+            } catch (BufferUnderflowException ex) {
+                throw new IOException("El archivo de escenario está incompleto");
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("El archivo de escenario está dañado: " + ex.getMessage());
+            }
+        }
+    }
+
+    private static ScenarioFile decode(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 2 * Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("El archivo no es un escenario guardado");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Versión de escenario no soportada: " + version);
+        }
+        SchedulingAlgorithm schedulingAlgorithm = SchedulingAlgorithm.valueOf(getString(buffer));
+        SchedulerConfig config = new SchedulerConfig(buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                buffer.getInt());
+
+        int partitionCount = getCount(buffer);
+        List<Scenario.PartitionSpec> partitions = new ArrayList<>(partitionCount);
+        Set<String> partitionNames = new HashSet<>();
+        for (int i = 0; i < partitionCount; i++) {
+            String name = getString(buffer);
+            if (!partitionNames.add(ProcessRegistry.key(name))) {
+                throw new IllegalArgumentException("partición repetida " + name);
+            }
+            long size = buffer.getLong();
+            if (size <= 0) {
+                throw new IllegalArgumentException("tamaño inválido en la partición " + name);
+            }
+            partitions.add(new Scenario.PartitionSpec(name, size));
+        }
+
+        int processCount = getCount(buffer);
+        List<Scenario.ProcessSpec> processes = new ArrayList<>(processCount);
+        Set<String> processNames = new HashSet<>();
+        for (int i = 0; i < processCount; i++) {
+            String name = getString(buffer);
+            if (!processNames.add(ProcessRegistry.key(name))) {
+                throw new IllegalArgumentException("proceso repetido " + name);
+            }
+            long time = buffer.getLong();
+            Status status = buffer.get() != 0 ? Status.BLOQUEADO : Status.NO_BLOQUEADO;
+            long size = buffer.getLong();
+            int partitionIndex = buffer.getInt();
+            if (partitionIndex < -1 || partitionIndex >= partitionCount) {
+                throw new IllegalArgumentException("partición inexistente en el proceso " + name);
+            }
+            String partitionName = partitionIndex >= 0 ? partitions.get(partitionIndex).getName() : null;
+            int priority = buffer.getInt();
+            long arrivalTime = buffer.getLong();
+            if (time <= 0 || size <= 0 || arrivalTime < 0) {
+                throw new IllegalArgumentException("valores inválidos en el proceso " + name);
+            }
+            processes.add(new Scenario.ProcessSpec(name, time, status, size, partitionName, priority, arrivalTime));
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("datos sobrantes al final");
+        }
+        return new ScenarioFile(new Scenario("", partitions, processes, config), schedulingAlgorithm);
+    }
+
+    // Cantidad de elementos; se rechazan las imposibles antes de reservar memoria
+    private static int getCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("cantidad inválida " + count);
+        }
+        return count;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,67 @@
+package model;
+
+// Parámetros del planificador para una simulación: quantum, costo de cada cambio
+// de contexto, duración de cada operación de E/S y cantidad de dispositivos que
+// la atienden. El cambio de contexto hace avanzar el reloj de la CPU; la E/S solo
+// retiene al proceso bloqueado, mientras la CPU sigue con los demás listos.
+public final class SchedulerConfig {
+    public static final SchedulerConfig DEFAULT = new SchedulerConfig(Constants.QUANTUM_TIME, 0, 0);
+
+    private final long quantum;
+    private final long contextSwitchTime;
+    private final long ioBlockTime;
+    private final int ioDevices;
+
+    public SchedulerConfig(long quantum, long contextSwitchTime, long ioBlockTime) {
+        this(quantum, contextSwitchTime, ioBlockTime, 1);
+    }
+
+    public SchedulerConfig(long quantum, long contextSwitchTime, long ioBlockTime, int ioDevices) {
+        if (quantum <= 0) {
+            throw new IllegalArgumentException("El quantum debe ser mayor a 0");
+        }
+        if (contextSwitchTime < 0) {
+            throw new IllegalArgumentException("El tiempo de cambio de contexto no puede ser negativo");
+        }
+        if (ioBlockTime < 0) {
+            throw new IllegalArgumentException("El tiempo de bloqueo por E/S no puede ser negativo");
+        }
+        if (ioDevices <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos un dispositivo de E/S");
+        }
+        this.quantum = quantum;
+        this.contextSwitchTime = contextSwitchTime;
+        this.ioBlockTime = ioBlockTime;
+        this.ioDevices = ioDevices;
+    }
+
+    public SchedulerConfig withQuantum(long quantum) {
+        return new SchedulerConfig(quantum, contextSwitchTime, ioBlockTime, ioDevices);
+    }
+
+    public long getQuantum() {
+        return quantum;
+    }
+
+    public long getContextSwitchTime() {
+        return contextSwitchTime;
+    }
+
+    public long getIoBlockTime() {
+        return ioBlockTime;
+    }
+
+    public int getIoDevices() {
+        return ioDevices;
+    }
+
+    @Override
+    public String toString() {
+        return "SchedulerConfig{" +
+                "quantum=" + quantum +
+                ", contextSwitchTime=" + contextSwitchTime +
+                ", ioBlockTime=" + ioBlockTime +
+                ", ioDevices=" + ioDevices +
+                '}';
+    }
+}
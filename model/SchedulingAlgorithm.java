@@ -0,0 +1,40 @@
+package model;
+
+// Algoritmos de planificación disponibles; cada simulación crea su propia política
+public enum SchedulingAlgorithm {
+    ROUND_ROBIN("Round Robin"),
+    TRABAJO_MAS_CORTO("Trabajo más corto primero (SJF)"),
+    MENOR_TIEMPO_RESTANTE("Menor tiempo restante (SRTF)"),
+    PRIORIDAD("Prioridad"),
+    COLAS_MULTINIVEL("Colas multinivel con retroalimentación (MLFQ)");
+
+    private String name;
+
+    SchedulingAlgorithm(String name) {
+        this.name = name;
+    }
+
+    public SchedulingPolicy create(long quantum) {
+        switch (this) {
+            case TRABAJO_MAS_CORTO:
+                return new ShortestJobFirstPolicy();
+            case MENOR_TIEMPO_RESTANTE:
+                return new ShortestRemainingTimeFirstPolicy(quantum);
+            case PRIORIDAD:
+                return new PriorityPolicy(quantum);
+            case COLAS_MULTINIVEL:
+                return new MultilevelFeedbackQueuePolicy(quantum);
+            default:
+                return new RoundRobinPolicy(quantum);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
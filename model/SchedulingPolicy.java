@@ -0,0 +1,29 @@
+package model;
+
+// Política de planificación de la cola de listos. El motor despacha siempre el
+// proceso que devuelve poll(), le concede getTimeSlice() unidades de CPU y, si
+// no terminó, lo devuelve a la política con requeue().
+public interface SchedulingPolicy {
+    // Proceso que entra a la cola de listos
+    void add(Process process);
+
+    // Siguiente proceso a despachar, o null si no hay procesos listos
+    Process poll();
+
+    // Tiempo de CPU que se concede al proceso que se acaba de despachar
+    long getTimeSlice(Process process);
+
+    // Proceso que vuelve a listos tras consumir su porción sin terminar
+    void requeue(Process process, Filter outcome);
+
+    // Proceso que terminó; la política puede olvidar lo que guardaba de él
+    default void retire(Process process) {
+    }
+
+    // Despachos que le quedan al proceso con esta política (para el avance)
+    long countPendingCycles(Process process);
+
+    boolean isEmpty();
+
+    int size();
+}
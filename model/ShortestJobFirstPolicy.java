@@ -0,0 +1,42 @@
+package model;
+
+// SJF no expropiativo: se despacha el proceso con menor tiempo total y se
+// ejecuta hasta terminar en un solo despacho
+class ShortestJobFirstPolicy implements SchedulingPolicy {
+    private final ProcessHeap heap = new ProcessHeap();
+
+    @Override
+    public void add(Process process) {
+        heap.add(process, process.getOriginalTime());
+    }
+
+    @Override
+    public Process poll() {
+        return heap.poll();
+    }
+
+    @Override
+    public long getTimeSlice(Process process) {
+        return Math.max(1, process.getRemainingTime());
+    }
+
+    @Override
+    public void requeue(Process process, Filter outcome) {
+        add(process);
+    }
+
+    @Override
+    public long countPendingCycles(Process process) {
+        return process.isFinished() ? 0 : 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+}
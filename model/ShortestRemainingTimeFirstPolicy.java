@@ -0,0 +1,47 @@
+package model;
+
+// SRTF: al final de cada quantum se vuelve a elegir el proceso con menor tiempo
+// restante, asi un proceso más corto que llegue a listos expropia al actual
+class ShortestRemainingTimeFirstPolicy implements SchedulingPolicy {
+    private final long quantum;
+    private final ProcessHeap heap = new ProcessHeap();
+
+    ShortestRemainingTimeFirstPolicy(long quantum) {
+        this.quantum = quantum;
+    }
+
+    @Override
+    public void add(Process process) {
+        heap.add(process, process.getRemainingTime());
+    }
+
+    @Override
+    public Process poll() {
+        return heap.poll();
+    }
+
+    @Override
+    public long getTimeSlice(Process process) {
+        return quantum;
+    }
+
+    @Override
+    public void requeue(Process process, Filter outcome) {
+        add(process);
+    }
+
+    @Override
+    public long countPendingCycles(Process process) {
+        return process.getPendingCycles(quantum);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+}
@@ -0,0 +1,365 @@
+package model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Motor de planificación sobre una cola de procesos listos. Escribe cada ciclo en
+// un CycleSink y no comparte estado con otros motores, asi ProcessManager puede
+// ejecutar uno global o uno por partición en hilos separados.
+//
+// La simulación es de eventos discretos (ver EventType): llegadas, despachos, fin
+// de quantum, fin de E/S y terminación se atienden por instante y cada uno programa
+// los siguientes. El reloj salta de evento en evento, asi los tramos en que la CPU
+// está inactiva no cuestan nada. El fin del ciclo en curso se guarda aparte, en el
+// estado de la CPU, y el despacho solo pasa por la EventQueue si otro evento ocurre
+// en el mismo instante: en el caso común cada ciclo no toca el montículo.
+//
+// Cada ciclo ocupa la CPU durante el cambio de contexto más la porción ejecutada.
+// Un proceso que pasa a E/S espera hasta que un dispositivo lo atiende; mientras
+// tanto la CPU despacha a los demás o queda inactiva si no hay ninguno listo.
+// Con tiempos enormes el reloj se satura en Long.MAX_VALUE en lugar de desbordarse.
+// Las métricas de cada proceso se registran en el mismo despacho que las produce.
+//
+// Con carga abierta los procesos no se conocen de antemano: llegan de un Supplier
+// mientras el reloj avanza y, al terminar, se retiran del motor con sus métricas.
+class SimulationEngine {
+    private final CycleSink sink;
+    private final SchedulingPolicy policy;
+    private final SchedulerConfig config;
+    private final SimulationProgress progress;
+    private final Map<Process, ProcessMetrics> metrics;
+    private final EventQueue events = new EventQueue();
+    // Instante en que cada dispositivo de E/S queda libre
+    private final long[] deviceFreeTimes;
+    private long unpublishedCycles;
+    private long clock;
+    private long idleTime;
+    private long idleSince;
+    private boolean idle = true;
+    private boolean dispatchPending;
+    // Solo con carga abierta (ver run(Supplier, Consumer))
+    private Supplier<Process> arrivals;
+    private Consumer<ProcessMetrics> retired;
+
+    // Ciclo en curso en la CPU (runningProcess es null si está libre) y el evento
+    // que lo cierra
+    private Process runningProcess;
+    private long runningEnd;
+    private EventType runningEndType;
+    private long runningStart;
+    private long runningCycleCount;
+    private long runningRemaining;
+    private long runningSlice;
+
+    SimulationEngine(CycleSink sink, SchedulingPolicy policy, SchedulerConfig config, SimulationProgress progress,
+                     Map<Process, ProcessMetrics> metrics) {
+        this.sink = sink;
+        this.policy = policy;
+        this.config = config;
+        this.progress = progress;
+        this.metrics = metrics;
+        this.deviceFreeTimes = new long[config.getIoDevices()];
+    }
+
+    // Las rondas de Round Robin solo se pueden agrupar si todos llegan al inicio y
+    // ningún proceso deja la cola por una E/S con duración: si no, el orden de la
+    // cola cambia con el tiempo
+    static boolean canCompressRounds(SchedulingPolicy policy, SchedulerConfig config, List<Process> processes) {
+        if (!(policy instanceof RoundRobinPolicy)) {
+            return false;
+        }
+        for (Process p : processes) {
+            if (p.getArrivalTime() != 0 || (p.isBlocked() && config.getIoBlockTime() != 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static long countPendingCycles(List<Process> processes, SchedulingPolicy policy) {
+        long total = 0;
+        for (Process p : processes) {
+            total += policy.countPendingCycles(p);
+            if (total < 0) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return total;
+    }
+
+    // Los procesos deben llegar ya ordenados en el orden de la cola inicial
+    void run(List<Process> processes) {
+        if (canCompressRounds(policy, config, processes)) {
+            executeRoundRobin(processes, ((RoundRobinPolicy) policy).getQuantum());
+        } else {
+            executeEvents(processes);
+        }
+        progress.publish(unpublishedCycles);
+        unpublishedCycles = 0;
+    }
+
+    // Carga abierta: 'arrivals' entrega los procesos en orden de llegada (null al
+    // agotarse) y solo uno espera en la EventQueue; el siguiente se pide al atender
+    // su llegada. Cada proceso que termina sale del mapa de métricas hacia 'retired',
+    // asi la memoria depende de los procesos vivos y no del tiempo simulado.
+    void run(Supplier<Process> arrivals, Consumer<ProcessMetrics> retired) {
+        this.arrivals = arrivals;
+        this.retired = retired;
+        scheduleNextArrival();
+        executeEvents(Collections.emptyList());
+        progress.publish(unpublishedCycles);
+        unpublishedCycles = 0;
+    }
+
+    private void scheduleNextArrival() {
+        Process next = arrivals.get();
+        if (next != null) {
+            events.add(next.getArrivalTime(), EventType.ARRIVAL, next);
+        }
+    }
+
+    private void executeEvents(List<Process> processes) {
+        for (Process p : processes) {
+            events.add(p.getArrivalTime(), EventType.ARRIVAL, p);
+        }
+        while (runningProcess != null || !events.isEmpty()) {
+            if (runningProcess != null && isRunningEndNext()) {
+                clock = runningEnd;
+                Process process = runningProcess;
+                Filter outcome = finishSlice();
+                if (outcome == Filter.TIEMPO_EXPIRADO
+                        || (outcome == Filter.TRANSICION_BLOQUEO && config.getIoBlockTime() == 0)) {
+                    policy.requeue(process, outcome);
+                }
+            } else {
+                clock = events.peekTime();
+                EventType type = events.peekType();
+                Process process = events.peekProcess();
+                events.remove();
+                if (type == EventType.ARRIVAL) {
+                    policy.add(process);
+                    if (arrivals != null) {
+                        scheduleNextArrival();
+                    }
+                } else if (type == EventType.IO_COMPLETION) {
+                    policy.requeue(process, Filter.TRANSICION_BLOQUEO);
+                } else {
+                    dispatchPending = false;
+                    dispatch();
+                }
+            }
+            requestDispatch();
+        }
+    }
+
+    // El fin del ciclo en curso va antes que el primer evento de la cola si ocurre
+    // antes o, en el mismo instante, si su tipo tiene precedencia
+    private boolean isRunningEndNext() {
+        if (events.isEmpty() || runningEnd < events.peekTime()) {
+            return true;
+        }
+        return runningEnd == events.peekTime() && runningEndType.compareTo(events.peekType()) < 0;
+    }
+
+    // Con la CPU libre se programa un único despacho en el instante actual; al ser el
+    // último tipo de evento, antes entran todos los procesos que llegan en ese instante.
+    // Si no hay a quién despachar la CPU queda inactiva hasta el próximo evento.
+    private void requestDispatch() {
+        if (runningProcess != null || dispatchPending) {
+            return;
+        }
+        if (policy.isEmpty()) {
+            if (!idle) {
+                idle = true;
+                idleSince = clock;
+            }
+        } else if (events.isEmpty() || events.peekTime() > clock) {
+            dispatch();
+        } else {
+            events.add(clock, EventType.DISPATCH, null);
+            dispatchPending = true;
+        }
+    }
+
+    private void dispatch() {
+        if (idle) {
+            idleTime = TimeMath.saturatedAdd(idleTime, clock - idleSince);
+            idle = false;
+        }
+        Process process = policy.poll();
+        runningEnd = startSlice(process, policy.getTimeSlice(process));
+        runningEndType = process.isFinished() ? EventType.TERMINATION : EventType.QUANTUM_EXPIRY;
+    }
+
+    // Pone al proceso en la cola del dispositivo que antes quede libre y devuelve
+    // cuánto tiempo estará bloqueado. Sin duración de E/S vuelve de inmediato.
+    private long blockProcess(Process process) {
+        long ioBlockTime = config.getIoBlockTime();
+        if (ioBlockTime == 0) {
+            return 0;
+        }
+        int device = 0;
+        for (int i = 1; i < deviceFreeTimes.length; i++) {
+            if (deviceFreeTimes[i] < deviceFreeTimes[device]) {
+                device = i;
+            }
+        }
+        long wakeTime = TimeMath.saturatedAdd(Math.max(clock, deviceFreeTimes[device]), ioBlockTime);
+        deviceFreeTimes[device] = wakeTime;
+        events.add(wakeTime, EventType.IO_COMPLETION, process);
+        return wakeTime - clock;
+    }
+
+    // Round Robin tiene su propio camino: la cola de slots evita buscar en la política
+    // y, con tiempos muy grandes, las rondas completas se agrupan en registros comprimidos
+    private void executeRoundRobin(List<Process> processes, long quantum) {
+        ReadyQueue readyQueue = new ReadyQueue(processes.size());
+        for (Process p : processes) {
+            readyQueue.add(p);
+        }
+
+        if (countPendingCycles(processes, policy) > Constants.MAX_EXPANDED_CYCLES) {
+            executeCompressedRoundRobin(readyQueue, quantum);
+        } else {
+            executeRoundRobin(readyQueue, quantum);
+        }
+    }
+
+    private void executeRoundRobin(ReadyQueue readyQueue, long quantum) {
+        while (!readyQueue.isEmpty()) {
+            // Tomar el primer proceso de la cola
+            int slot = readyQueue.poll();
+
+            if (executeSlice(readyQueue.get(slot), quantum) != Filter.FINALIZADO) {
+                readyQueue.offer(slot);
+            }
+        }
+    }
+
+    // Ejecuta una porción de CPU del proceso de una vez y devuelve cómo terminó el ciclo
+    private Filter executeSlice(Process currentProcess, long timeSlice) {
+        clock = startSlice(currentProcess, timeSlice);
+        return finishSlice();
+    }
+
+    // Despacha al proceso en el instante actual: descuenta su porción y devuelve el
+    // instante en que termina el ciclo
+    private long startSlice(Process process, long timeSlice) {
+        runningProcess = process;
+        runningStart = clock;
+        runningCycleCount = process.getCycleCount();
+        runningRemaining = process.getRemainingTime();
+        runningSlice = timeSlice;
+
+        process.subtractTime(timeSlice);
+        process.incrementCycle();
+        metrics.get(process).recordDispatch(clock, 1);
+        return TimeMath.saturatedAdd(TimeMath.saturatedAdd(clock, config.getContextSwitchTime()), Math.min(runningRemaining, timeSlice));
+    }
+
+    // Cierra el ciclo en curso en el instante actual y libera la CPU
+    private Filter finishSlice() {
+        Process process = runningProcess;
+        runningProcess = null;
+        Filter outcome = getCycleOutcome(process);
+        ProcessMetrics processMetrics = metrics.get(process);
+        long ioTime = 0;
+        if (outcome == Filter.TRANSICION_BLOQUEO) {
+            ioTime = blockProcess(process);
+            processMetrics.recordIo(ioTime);
+        } else if (outcome == Filter.FINALIZADO) {
+            processMetrics.recordCompletion(clock);
+            policy.retire(process);
+        }
+        sink.addCycle(process, runningCycleCount, runningRemaining, runningSlice, outcome, 1, runningStart,
+                clock - runningStart, ioTime);
+        if (outcome == Filter.FINALIZADO && retired != null) {
+            metrics.remove(process);
+            retired.accept(processMetrics);
+        }
+        countCycles(1);
+        return outcome;
+    }
+
+    private Filter getCycleOutcome(Process process) {
+        if (process.isFinished()) {
+            return Filter.FINALIZADO;
+        }
+        return process.isBlocked() ? Filter.TRANSICION_BLOQUEO : Filter.TIEMPO_EXPIRADO;
+    }
+
+    // En Round Robin puro el orden de la cola no cambia entre rondas, asi que
+    // mientras ningun proceso termine se pueden saltar varias rondas de una vez:
+    // cada proceso vivo ejecuta (minimo de ciclos pendientes - 1) ciclos seguidos
+    // y solo la ronda en la que termina alguno se recorre quantum a quantum.
+    // Las rondas agrupadas siguen intercaladas en el reloj: cada proceso se despacha
+    // tras los que le preceden en la ronda y se repite una vez por ronda.
+    private void executeCompressedRoundRobin(ReadyQueue readyQueue, long quantum) {
+        while (!readyQueue.isEmpty()) {
+            int liveCount = readyQueue.size();
+            long minCycles = Long.MAX_VALUE;
+            for (int i = 0; i < liveCount; i++) {
+                Process p = readyQueue.get(readyQueue.slotAt(i));
+                minCycles = Math.min(minCycles, p.getPendingCycles(quantum));
+            }
+
+            long rounds = minCycles - 1;
+            if (rounds > 0) {
+                long cycleTime = TimeMath.saturatedAdd(config.getContextSwitchTime(), quantum);
+                long roundTime = TimeMath.saturatedMultiply(cycleTime, liveCount);
+                for (int i = 0; i < liveCount; i++) {
+                    executeRounds(readyQueue.get(readyQueue.slotAt(i)), rounds, quantum,
+                            TimeMath.saturatedAdd(clock, TimeMath.saturatedMultiply(cycleTime, i)), roundTime);
+                }
+                advanceClock(TimeMath.saturatedMultiply(roundTime, rounds));
+            }
+
+            // Ronda individual: al menos un proceso termina en ella
+            for (int i = 0; i < liveCount; i++) {
+                int slot = readyQueue.poll();
+                if (executeSlice(readyQueue.get(slot), quantum) != Filter.FINALIZADO) {
+                    readyQueue.offer(slot);
+                }
+            }
+        }
+    }
+
+    // Registra 'rounds' ciclos del proceso: el primero en startTime y cada uno
+    // roundTime después del anterior. El reloj lo avanza quien recorre la ronda.
+    // Aquí las E/S no tienen duración (ver canCompressRounds).
+    private void executeRounds(Process process, long rounds, long quantum, long startTime, long roundTime) {
+        Filter outcome = process.isBlocked() ? Filter.TRANSICION_BLOQUEO : Filter.TIEMPO_EXPIRADO;
+        metrics.get(process).recordDispatch(startTime, rounds);
+        sink.addCycle(process, process.getCycleCount(), process.getRemainingTime(), quantum, outcome, rounds,
+                startTime, roundTime, 0);
+
+        process.subtractTime(rounds * quantum);
+        process.addCycles(rounds);
+        countCycles(rounds);
+    }
+
+    private void advanceClock(long time) {
+        clock = TimeMath.saturatedAdd(clock, time);
+    }
+
+    // Reloj de la CPU al terminar (tiempo total de la simulación)
+    long getClock() {
+        return clock;
+    }
+
+    // Tiempo que la CPU esperó sin procesos listos (todos en E/S o aún sin llegar)
+    long getIdleTime() {
+        return idleTime;
+    }
+
+    private void countCycles(long cycles) {
+        unpublishedCycles += cycles;
+        if (unpublishedCycles >= SimulationProgress.PROGRESS_INTERVAL) {
+            progress.publish(unpublishedCycles);
+            unpublishedCycles = 0;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package model;
+
+// Recibe cada transicion de estado en el momento en que la simulacion la produce
+public interface SimulationListener {
+    void onLog(Log log);
+
+    // Filtros que el listener consume: solo se crean y envían los Log de estos
+    default boolean accepts(Filter filter) {
+        return true;
+    }
+
+    default void onSimulationStarted() {
+    }
+
+    default void onSimulationFinished() {
+    }
+
+    // La simulación se canceló (CancellationException) o falló; en lugar de onSimulationFinished
+    default void onSimulationFailed(Throwable cause) {
+        onSimulationFinished();
+    }
+}
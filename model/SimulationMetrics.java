@@ -0,0 +1,106 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Métricas de la última simulación: una entrada por proceso ejecutado (en orden
+// de entrada) y una por partición, más los totales de todas las CPU.
+public class SimulationMetrics {
+    public static final SimulationMetrics EMPTY =
+            new SimulationMetrics(Collections.emptyList(), Collections.emptyList(), 0, 0, 0);
+
+    private List<ProcessMetrics> processMetrics;
+    private List<PartitionMetrics> partitionMetrics;
+    private long simulationTime;
+    private long cpuTime;
+    private long idleTime;
+    private int completedCount;
+    private double totalTurnaroundTime;
+    private double totalWaitingTime;
+    private double totalResponseTime;
+
+    // cpuTime es la suma de los relojes de todas las CPU (igual a simulationTime con una sola);
+    // idleTime, lo que esas CPU esperaron sin procesos listos (en E/S o aún sin llegar)
+    public SimulationMetrics(List<ProcessMetrics> processMetrics, List<PartitionMetrics> partitionMetrics,
+                             long simulationTime, long cpuTime, long idleTime) {
+        this.processMetrics = Collections.unmodifiableList(new ArrayList<>(processMetrics));
+        this.partitionMetrics = Collections.unmodifiableList(new ArrayList<>(partitionMetrics));
+        this.simulationTime = simulationTime;
+        this.cpuTime = cpuTime;
+        this.idleTime = idleTime;
+        for (ProcessMetrics metrics : processMetrics) {
+            if (metrics.isCompleted()) {
+                completedCount++;
+                totalTurnaroundTime += metrics.getTurnaroundTime();
+                totalWaitingTime += metrics.getWaitingTime();
+                totalResponseTime += metrics.getResponseTime();
+            }
+        }
+    }
+
+    // Carga abierta: los procesos se descartaron al terminar y los totales salen de
+    // las métricas por partición
+    SimulationMetrics(List<PartitionMetrics> partitionMetrics, long simulationTime, long cpuTime, long idleTime) {
+        this(Collections.emptyList(), partitionMetrics, simulationTime, cpuTime, idleTime);
+        for (PartitionMetrics metrics : partitionMetrics) {
+            completedCount += metrics.getCompletedCount();
+            totalTurnaroundTime += metrics.getTotalTurnaroundTime();
+            totalWaitingTime += metrics.getTotalWaitingTime();
+            totalResponseTime += metrics.getTotalResponseTime();
+        }
+    }
+
+    public List<ProcessMetrics> getProcessMetrics() {
+        return processMetrics;
+    }
+
+    public List<PartitionMetrics> getPartitionMetrics() {
+        return partitionMetrics;
+    }
+
+    public long getSimulationTime() {
+        return simulationTime;
+    }
+
+    public long getIdleTime() {
+        return idleTime;
+    }
+
+    // Fracción del tiempo de todas las CPU sin nada que ejecutar
+    public double getIdleFraction() {
+        return cpuTime == 0 ? 0 : (double) idleTime / cpuTime;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    public double getAverageTurnaroundTime() {
+        return completedCount == 0 ? 0 : totalTurnaroundTime / completedCount;
+    }
+
+    public double getAverageWaitingTime() {
+        return completedCount == 0 ? 0 : totalWaitingTime / completedCount;
+    }
+
+    public double getAverageResponseTime() {
+        return completedCount == 0 ? 0 : totalResponseTime / completedCount;
+    }
+
+    // Fracción del tiempo de todas las CPU dedicada a ejecutar procesos
+    public double getCpuUtilization() {
+        if (cpuTime == 0) {
+            return 0;
+        }
+        double busyTime = 0;
+        for (PartitionMetrics metrics : partitionMetrics) {
+            busyTime += metrics.getBusyTime();
+        }
+        return busyTime / cpuTime;
+    }
+
+    public double getThroughput() {
+        return simulationTime == 0 ? 0 : (double) completedCount / simulationTime;
+    }
+}
@@ -0,0 +1,38 @@
+package model;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Avance compartido por uno o varios motores (uno por partición en modo paralelo).
+// Cada motor acumula sus ciclos localmente y los publica cada PROGRESS_INTERVAL,
+// momento en el que también revisa si su hilo fue interrumpido.
+class SimulationProgress {
+    static final long PROGRESS_INTERVAL = 4096;
+
+    private final AtomicLong completedCycles = new AtomicLong();
+    private final long totalCycles;
+    private final ProgressListener listener;
+
+    SimulationProgress(long totalCycles, ProgressListener listener) {
+        this.totalCycles = totalCycles;
+        this.listener = listener;
+    }
+
+    void publish(long cycles) {
+        long completed = completedCycles.addAndGet(cycles);
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Simulación cancelada");
+        }
+        if (listener != null) {
+            listener.onProgress(completed, totalCycles);
+        }
+    }
+
+    long getCompletedCycles() {
+        return completedCycles.get();
+    }
+
+    long getTotalCycles() {
+        return totalCycles;
+    }
+}
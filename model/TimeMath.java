@@ -0,0 +1,17 @@
+package model;
+
+// Aritmética de tiempos de la simulación: los instantes y duraciones no negativos
+// se saturan en Long.MAX_VALUE en vez de desbordar.
+public final class TimeMath {
+    private TimeMath() {
+    }
+
+    public static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < a ? Long.MAX_VALUE : sum;
+    }
+
+    public static long saturatedMultiply(long a, long b) {
+        return a != 0 && b > Long.MAX_VALUE / a ? Long.MAX_VALUE : a * b;
+    }
+}
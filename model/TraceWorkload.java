@@ -0,0 +1,96 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// Carga abierta leída de una traza, una llegada por línea y ordenadas por instante
+// ('#' inicia un comentario):
+//   llegada,nombre,tiempo,estado,tamaño,partición[,prioridad]   (estado: Bloqueado | No bloqueado)
+// Las líneas se leen a medida que el motor pide procesos, asi la traza puede ser
+// mayor que la memoria.
+public class TraceWorkload implements WorkloadGenerator, Closeable {
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    public TraceWorkload(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Scenario.ProcessSpec next() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                try {
+                    return parse(line.split(","));
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException("traza, línea " + lineNumber + ": " + ex.getMessage());
+                }
+            }
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Scenario.ProcessSpec parse(String[] fields) {
+        if (fields.length != 6 && fields.length != 7) {
+            throw new IllegalArgumentException("entrada no reconocida");
+        }
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        long arrivalTime = parseLong(fields[0], "llegada");
+        if (arrivalTime < 0) {
+            throw new IllegalArgumentException("la llegada no puede ser negativa");
+        }
+        if (fields[1].isEmpty()) {
+            throw new IllegalArgumentException("el nombre no puede estar vacío");
+        }
+        long time = parseLong(fields[2], "tiempo");
+        long size = parseLong(fields[4], "tamaño");
+        if (time <= 0 || size <= 0) {
+            throw new IllegalArgumentException("el tiempo y el tamaño deben ser mayores a 0");
+        }
+        int priority = fields.length == 7 ? parsePriority(fields[6]) : 0;
+        return new Scenario.ProcessSpec(fields[1], time, parseStatus(fields[3]), size, fields[5], priority,
+                arrivalTime);
+    }
+
+    private static long parseLong(String text, String field) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("valor inválido para " + field + ": " + text);
+        }
+    }
+
+    private static int parsePriority(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("valor inválido para prioridad: " + text);
+        }
+    }
+
+    private static Status parseStatus(String text) {
+        for (Status status : Status.values()) {
+            if (status.getValue().equalsIgnoreCase(text) || status.name().equalsIgnoreCase(text)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("estado inválido: " + text);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,10 @@
+package model;
+
+// Fuente de procesos de una carga abierta (ver ProcessManager.runOpenWorkload).
+// Los procesos se piden de a uno mientras la simulación avanza, asi la carga puede
+// durar tanto como se quiera sin tenerla entera en memoria.
+public interface WorkloadGenerator {
+    // Siguiente proceso, con llegada no anterior a la del último entregado, o null
+    // cuando la carga se agotó
+    Scenario.ProcessSpec next();
+}
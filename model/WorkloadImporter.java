@@ -0,0 +1,389 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Importación masiva de particiones y procesos (ver ProcessManager.importWorkload).
+// Lee el archivo de corrido validando cada entrada contra lo ya cargado y lo visto
+// en el archivo; solo si todo es válido agrega las entradas, asi un archivo con
+// errores no deja la carga a medias.
+//
+// CSV, una entrada por línea ('#' inicia un comentario):
+//   PARTICION,nombre,tamaño
+//   PROCESO,nombre,tiempo,estado,tamaño,partición[,prioridad[,llegada]]   (estado: Bloqueado | No bloqueado)
+// JSON (estado, prioridad y llegada son opcionales):
+//   {"particiones": [{"nombre": "P1", "tamano": 100}],
+//    "procesos": [{"nombre": "A", "tiempo": 10, "estado": "Bloqueado", "tamano": 5,
+//                  "particion": "P1", "prioridad": 0, "llegada": 0}]}
+class WorkloadImporter {
+    private final ProcessManager processManager;
+    private final List<Scenario.PartitionSpec> partitions = new ArrayList<>();
+    private final List<Scenario.ProcessSpec> processes = new ArrayList<>();
+    // Nombres normalizados (ProcessRegistry.key) de las entradas nuevas
+    private final Set<String> partitionNames = new HashSet<>();
+    private final Set<String> processNames = new HashSet<>();
+
+    WorkloadImporter(ProcessManager processManager) {
+        this.processManager = processManager;
+    }
+
+    // El formato se elige por la extensión: .json o, si no, CSV
+    ProcessManager.ImportResult importFile(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")) {
+                readJson(reader);
+            } else {
+                readCsv(reader);
+            }
+        }
+        return apply();
+    }
+
+    private ProcessManager.ImportResult apply() {
+        for (Scenario.PartitionSpec partition : partitions) {
+            processManager.addPartition(partition.getName(), partition.getSize());
+        }
+        for (Scenario.ProcessSpec process : processes) {
+            processManager.addProcess(process.getName(), process.getTime(), process.getStatus(), process.getSize(),
+                    processManager.findPartitionByName(process.getPartitionName()), process.getPriority(),
+                    process.getArrivalTime());
+        }
+        return new ProcessManager.ImportResult(partitions.size(), processes.size());
+    }
+
+    // CSV
+
+    private void readCsv(BufferedReader reader) throws IOException {
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = fields[i].trim();
+            }
+            try {
+                readCsvEntry(fields);
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("línea " + lineNumber + ": " + ex.getMessage());
+            }
+        }
+    }
+
+    private void readCsvEntry(String[] fields) {
+        String type = fields[0].toUpperCase(Locale.ROOT);
+        if (type.equals("PARTICION") && fields.length == 3) {
+            addPartition(fields[1], fields[2]);
+        } else if (type.equals("PROCESO") && fields.length >= 6 && fields.length <= 8) {
+            addProcess(fields[1], fields[2], fields[3], fields[4], fields[5],
+                    fields.length >= 7 ? fields[6] : null, fields.length == 8 ? fields[7] : null);
+        } else {
+            throw new IllegalArgumentException("entrada no reconocida");
+        }
+    }
+
+    // JSON: cada partición y proceso se convierte apenas se lee, sin armar el árbol completo
+
+    private void readJson(Reader reader) throws IOException {
+        JsonParser parser = new JsonParser(reader);
+        parser.expect('{');
+        if (!parser.consume('}')) {
+            do {
+                String key = parser.readString();
+                parser.expect(':');
+                if (key.equals("particiones")) {
+                    readJsonArray(parser, "partición",
+                            entry -> addPartition(entry.get("nombre"), entry.get("tamano")));
+                } else if (key.equals("procesos")) {
+                    readJsonArray(parser, "proceso", entry -> addProcess(entry.get("nombre"), entry.get("tiempo"),
+                            entry.getOrDefault("estado", Status.NO_BLOQUEADO.getValue()), entry.get("tamano"),
+                            entry.get("particion"), entry.get("prioridad"), entry.get("llegada")));
+                } else {
+                    parser.skipValue();
+                }
+            } while (parser.consume(','));
+            parser.expect('}');
+        }
+        parser.expectEnd();
+    }
+
+    private interface JsonEntryReader {
+        void read(Map<String, String> entry);
+    }
+
+    private static void readJsonArray(JsonParser parser, String kind, JsonEntryReader entryReader)
+            throws IOException {
+        parser.expect('[');
+        if (parser.consume(']')) {
+            return;
+        }
+        int index = 0;
+        do {
+            index++;
+            Map<String, String> entry = parser.readFlatObject();
+            try {
+                entryReader.read(entry);
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException(kind + " " + index + ": " + ex.getMessage());
+            }
+        } while (parser.consume(','));
+        parser.expect(']');
+    }
+
+    // Validación común
+
+    private void addPartition(String nameText, String sizeText) {
+        String name = requireName(nameText);
+        if (processManager.partitionExists(name) || !partitionNames.add(ProcessRegistry.key(name))) {
+            throw new IllegalArgumentException("ya existe una partición con el nombre " + name);
+        }
+        partitions.add(new Scenario.PartitionSpec(name, parsePositive(sizeText, "tamaño")));
+    }
+
+    private void addProcess(String nameText, String timeText, String statusText, String sizeText,
+                            String partitionName, String priorityText, String arrivalText) {
+        String name = requireName(nameText);
+        if (processManager.processExists(name) || !processNames.add(ProcessRegistry.key(name))) {
+            throw new IllegalArgumentException("ya existe un proceso con el nombre " + name);
+        }
+        long time = parsePositive(timeText, "tiempo");
+        Status status = parseStatus(statusText);
+        long size = parsePositive(sizeText, "tamaño");
+        if (partitionName == null || (!processManager.partitionExists(partitionName)
+                && !partitionNames.contains(ProcessRegistry.key(partitionName)))) {
+            throw new IllegalArgumentException("no existe la partición " + partitionName);
+        }
+        int priority = priorityText != null ? parsePriority(priorityText) : 0;
+        long arrivalTime = arrivalText != null ? parseNonNegative(arrivalText, "instante de llegada") : 0;
+        processes.add(new Scenario.ProcessSpec(name, time, status, size, partitionName.trim(), priority,
+                arrivalTime));
+    }
+
+    private static String requireName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("el nombre no puede estar vacío");
+        }
+        return name.trim();
+    }
+
+    private static long parsePositive(String text, String field) {
+        long value = parseNonNegative(text, field);
+        if (value == 0) {
+            throw new IllegalArgumentException("el " + field + " debe ser mayor a 0");
+        }
+        return value;
+    }
+
+    private static long parseNonNegative(String text, String field) {
+        if (text == null) {
+            throw new IllegalArgumentException("falta el " + field);
+        }
+        try {
+            long value = Long.parseLong(text);
+            if (value < 0) {
+                throw new IllegalArgumentException("el " + field + " no puede ser negativo");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("valor inválido para " + field + ": " + text);
+        }
+    }
+
+    private static int parsePriority(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("valor inválido para prioridad: " + text);
+        }
+    }
+
+    private static Status parseStatus(String text) {
+        for (Status status : Status.values()) {
+            if (status.getValue().equalsIgnoreCase(text) || status.name().equalsIgnoreCase(text)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("estado inválido: " + text);
+    }
+
+    // Lector JSON mínimo: solo lo necesario para recorrer el archivo de carga. Los
+    // números y literales se devuelven como texto y se validan con el resto de campos.
+    private static final class JsonParser {
+        private final Reader reader;
+        private int next;
+        private long position;
+
+        JsonParser(Reader reader) throws IOException {
+            this.reader = reader;
+            this.next = reader.read();
+        }
+
+        void expect(char c) throws IOException {
+            if (!consume(c)) {
+                throw error("se esperaba '" + c + "'");
+            }
+        }
+
+        boolean consume(char c) throws IOException {
+            skipWhitespace();
+            if (next != c) {
+                return false;
+            }
+            advance();
+            return true;
+        }
+
+        void expectEnd() throws IOException {
+            skipWhitespace();
+            if (next != -1) {
+                throw error("contenido después del final");
+            }
+        }
+
+        // Objeto cuyos valores son todos escalares
+        Map<String, String> readFlatObject() throws IOException {
+            Map<String, String> entry = new LinkedHashMap<>();
+            expect('{');
+            if (consume('}')) {
+                return entry;
+            }
+            do {
+                String key = readString();
+                expect(':');
+                entry.put(key, readScalar());
+            } while (consume(','));
+            expect('}');
+            return entry;
+        }
+
+        String readString() throws IOException {
+            skipWhitespace();
+            if (next != '"') {
+                throw error("se esperaba un texto");
+            }
+            advance();
+            StringBuilder text = new StringBuilder();
+            while (next != '"') {
+                if (next == -1) {
+                    throw error("texto sin cerrar");
+                }
+                if (next == '\\') {
+                    advance();
+                    text.append(readEscape());
+                } else {
+                    text.append((char) next);
+                    advance();
+                }
+            }
+            advance();
+            return text.toString();
+        }
+
+        // null se devuelve como null; números, true y false como su texto
+        String readScalar() throws IOException {
+            skipWhitespace();
+            if (next == '"') {
+                return readString();
+            }
+            if (next == '{' || next == '[') {
+                throw error("se esperaba un valor simple");
+            }
+            StringBuilder literal = new StringBuilder();
+            while (next != -1 && next != ',' && next != '}' && next != ']' && !Character.isWhitespace(next)) {
+                literal.append((char) next);
+                advance();
+            }
+            if (literal.length() == 0) {
+                throw error("se esperaba un valor");
+            }
+            String text = literal.toString();
+            return text.equals("null") ? null : text;
+        }
+
+        void skipValue() throws IOException {
+            skipWhitespace();
+            if (next == '{' || next == '[') {
+                char close = next == '{' ? '}' : ']';
+                boolean object = next == '{';
+                advance();
+                if (consume(close)) {
+                    return;
+                }
+                do {
+                    if (object) {
+                        readString();
+                        expect(':');
+                    }
+                    skipValue();
+                } while (consume(','));
+                expect(close);
+            } else {
+                readScalar();
+            }
+        }
+
+        private char readEscape() throws IOException {
+            int c = next;
+            advance();
+            switch (c) {
+                case 'n':
+                    return '\n';
+                case 't':
+                    return '\t';
+                case 'r':
+                    return '\r';
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(next, 16);
+                        if (digit < 0) {
+                            throw error("escape unicode inválido");
+                        }
+                        code = code * 16 + digit;
+                        advance();
+                    }
+                    return (char) code;
+                case '"':
+                case '\\':
+                case '/':
+                    return (char) c;
+                default:
+                    throw error("escape inválido");
+            }
+        }
+
+        private void skipWhitespace() throws IOException {
+            while (next != -1 && Character.isWhitespace(next)) {
+                advance();
+            }
+        }
+
+        private void advance() throws IOException {
+            next = reader.read();
+            position++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("JSON inválido en el carácter " + position + ": " + message);
+        }
+    }
+}
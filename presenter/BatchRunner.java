@@ -0,0 +1,520 @@
+package presenter;
+
+import model.BatchSimulator;
+import model.Filter;
+import model.Partition;
+import model.PartitionMetrics;
+import model.PoissonWorkload;
+import model.ProcessManager;
+import model.ProcessMetrics;
+import model.QuantumSweep;
+import model.Scenario;
+import model.SchedulerConfig;
+import model.SchedulingAlgorithm;
+import model.SimulationMetrics;
+import model.TraceWorkload;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Ejecución sin interfaz gráfica: carga particiones y procesos desde archivos,
+// simula y escribe los informes por Filter y un resumen con métricas de rendimiento.
+//
+// Con --paralelo las cargas se simulan a la vez como escenarios independientes
+// (BatchSimulator) y solo se imprime el resumen agregado. Con --cpu-por-particion
+// cada partición de una carga se simula con su propia CPU en un hilo aparte; no se
+// combina con --paralelo, que ya ocupa todos los núcleos con los escenarios.
+// --planificador elige el algoritmo (nombre del enum o descripción, por defecto Round Robin).
+// --quantum, --cambio-contexto, --bloqueo-es y --dispositivos-es fijan la configuración del planificador;
+// --barrido desde:hasta:paso simula cada quantum del rango e informa el de menor retorno promedio.
+// --carga-abierta simula un flujo de llegadas sobre las particiones de cada carga, con una
+// sola CPU y sin guardar el registro: poisson:tasa:ráfaga_media:horizonte[:prob_bloqueo[:semilla]]
+// genera las llegadas y traza:<archivo> las lee de un archivo (formato en TraceWorkload).
+// Los informes por Filter se exportan desde el registro sin copiarlo (ProcessManager.exportLogs);
+// con --salida y --registro-columnar se escribe un solo registro.col en formato columnar.
+//
+// Formato de la carga (una entrada por línea, '#' inicia un comentario; los archivos
+// .json usan el formato descrito en WorkloadImporter):
+//   PARTICION,nombre,tamaño
+//   PROCESO,nombre,tiempo,estado,tamaño,partición[,prioridad[,llegada]]   (estado: Bloqueado | No bloqueado)
+public class BatchRunner {
+    private static final String USAGE =
+            "Uso: java presenter.BatchRunner [--salida <directorio>] [--solo-resumen] [--registro-columnar] [--paralelo] [--cpu-por-particion] [--planificador <algoritmo>] [--quantum <n>] [--cambio-contexto <n>] [--bloqueo-es <n>] [--dispositivos-es <n>] [--barrido <desde:hasta:paso>] [--carga-abierta <poisson:...|traza:archivo>] <carga> [<carga> ...]";
+
+    private static final List<String> OPTIONS_WITH_VALUE = Arrays.asList(
+            "--planificador", "--quantum", "--cambio-contexto", "--bloqueo-es", "--dispositivos-es",
+            "--barrido", "--carga-abierta");
+
+    private Path outputDirectory;
+    private boolean summaryOnly;
+    private boolean columnarLogs;
+    private boolean parallelPartitions;
+    private SchedulingAlgorithm schedulingAlgorithm = SchedulingAlgorithm.ROUND_ROBIN;
+    private SchedulerConfig schedulerConfig = SchedulerConfig.DEFAULT;
+    private long[] sweepRange;
+    private String openWorkload;
+    private PrintStream out;
+
+    public BatchRunner(Path outputDirectory, boolean summaryOnly, PrintStream out) {
+        this.outputDirectory = outputDirectory;
+        this.summaryOnly = summaryOnly;
+        this.out = out;
+    }
+
+    public static void main(String[] args) {
+        Path outputDirectory = null;
+        boolean summaryOnly = false;
+        boolean columnarLogs = false;
+        boolean parallel = false;
+        boolean parallelPartitions = false;
+        SchedulingAlgorithm schedulingAlgorithm = SchedulingAlgorithm.ROUND_ROBIN;
+        long quantum = SchedulerConfig.DEFAULT.getQuantum();
+        long contextSwitchTime = 0;
+        long ioBlockTime = 0;
+        int ioDevices = 1;
+        long[] sweepRange = null;
+        String openWorkload = null;
+        List<Path> workloads = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--salida") && i + 1 < args.length) {
+                outputDirectory = Paths.get(args[++i]);
+            } else if (args[i].equals("--solo-resumen")) {
+                summaryOnly = true;
+            } else if (args[i].equals("--registro-columnar")) {
+                columnarLogs = true;
+            } else if (args[i].equals("--paralelo")) {
+                parallel = true;
+            } else if (args[i].equals("--cpu-por-particion")) {
+                parallelPartitions = true;
+            } else if (OPTIONS_WITH_VALUE.contains(args[i]) && i + 1 < args.length) {
+                String option = args[i];
+                String value = args[++i];
+                try {
+                    switch (option) {
+                        case "--planificador":
+                            schedulingAlgorithm = parseAlgorithm(value);
+                            break;
+                        case "--quantum":
+                            quantum = parsePositive(value, "quantum");
+                            break;
+                        case "--cambio-contexto":
+                            contextSwitchTime = parseNonNegative(value, "cambio de contexto");
+                            break;
+                        case "--bloqueo-es":
+                            ioBlockTime = parseNonNegative(value, "bloqueo por E/S");
+                            break;
+                        case "--dispositivos-es":
+                            ioDevices = (int) Math.min(Integer.MAX_VALUE,
+                                    parsePositive(value, "número de dispositivos de E/S"));
+                            break;
+                        case "--carga-abierta":
+                            if (!value.startsWith("poisson:") && !value.startsWith("traza:")) {
+                                throw new IllegalArgumentException("la carga abierta debe tener la forma "
+                                        + "poisson:tasa:ráfaga_media:horizonte[:prob_bloqueo[:semilla]] o traza:<archivo>");
+                            }
+                            openWorkload = value;
+                            break;
+                        default:
+                            sweepRange = parseSweepRange(value);
+                            break;
+                    }
+                } catch (IllegalArgumentException ex) {
+                    System.err.println(ex.getMessage());
+                    System.exit(2);
+                }
+            } else if (args[i].startsWith("--")) {
+                System.err.println(USAGE);
+                System.exit(2);
+            } else {
+                workloads.add(Paths.get(args[i]));
+            }
+        }
+
+        if (workloads.isEmpty() || (parallel && (openWorkload != null || parallelPartitions))
+                || (columnarLogs && outputDirectory == null)) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        BatchRunner runner = new BatchRunner(outputDirectory, summaryOnly, System.out);
+        runner.setColumnarLogs(columnarLogs);
+        runner.setParallelPartitions(parallelPartitions);
+        runner.setSchedulingAlgorithm(schedulingAlgorithm);
+        runner.setSchedulerConfig(new SchedulerConfig(quantum, contextSwitchTime, ioBlockTime, ioDevices));
+        runner.setSweepRange(sweepRange);
+        runner.setOpenWorkload(openWorkload);
+        if (parallel) {
+            System.exit(runner.runParallel(workloads));
+        }
+        int failures = 0;
+        long start = System.nanoTime();
+        for (Path workload : workloads) {
+            try {
+                runner.run(workload);
+            } catch (IOException | IllegalArgumentException | IllegalStateException ex) {
+                System.err.println(workload + ": " + ex.getMessage());
+                failures++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Total: %d cargas en %.3f s (%.1f cargas/s), %d con errores%n",
+                workloads.size(), seconds, workloads.size() / seconds, failures);
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    // Registro en un solo archivo columnar en lugar de un CSV por Filter (requiere directorio de salida)
+    public void setColumnarLogs(boolean columnarLogs) {
+        this.columnarLogs = columnarLogs;
+    }
+
+    public void setParallelPartitions(boolean parallelPartitions) {
+        this.parallelPartitions = parallelPartitions;
+    }
+
+    public void setSchedulingAlgorithm(SchedulingAlgorithm schedulingAlgorithm) {
+        this.schedulingAlgorithm = schedulingAlgorithm;
+    }
+
+    public void setSchedulerConfig(SchedulerConfig schedulerConfig) {
+        this.schedulerConfig = schedulerConfig;
+    }
+
+    // {desde, hasta, paso}, o null para no hacer barrido
+    public void setSweepRange(long[] sweepRange) {
+        this.sweepRange = sweepRange;
+    }
+
+    // Especificación de --carga-abierta, o null para simular los procesos de cada carga
+    public void setOpenWorkload(String openWorkload) {
+        this.openWorkload = openWorkload;
+    }
+
+    public void run(Path workload) throws IOException {
+        if (openWorkload != null) {
+            runOpenWorkload(workload);
+            return;
+        }
+        ProcessManager processManager = new ProcessManager();
+        processManager.setParallelPartitions(parallelPartitions);
+        processManager.setSchedulingAlgorithm(schedulingAlgorithm);
+        processManager.setSchedulerConfig(schedulerConfig);
+        load(workload, processManager);
+
+        long start = System.nanoTime();
+        processManager.runSimulation();
+        long elapsed = System.nanoTime() - start;
+
+        if (!summaryOnly) {
+            writeReports(workload, processManager);
+        }
+        printSummary(workload, processManager, elapsed);
+        if (sweepRange != null) {
+            printSweep(processManager.sweepQuantum(sweepRange[0], sweepRange[1], sweepRange[2]));
+        }
+    }
+
+    // Solo se usan las particiones de la carga; los procesos vienen del generador
+    private void runOpenWorkload(Path workload) throws IOException {
+        ProcessManager processManager = new ProcessManager();
+        processManager.setSchedulingAlgorithm(schedulingAlgorithm);
+        processManager.setLogRetention(false);
+        load(workload, processManager);
+
+        long start = System.nanoTime();
+        if (openWorkload.startsWith("traza:")) {
+            Path trace = Paths.get(openWorkload.substring("traza:".length()));
+            try (TraceWorkload generator = new TraceWorkload(Files.newBufferedReader(trace, StandardCharsets.UTF_8))) {
+                processManager.runOpenWorkload(generator, schedulerConfig);
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        } else {
+            processManager.runOpenWorkload(createPoissonWorkload(openWorkload, processManager), schedulerConfig);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        printSummary(workload, processManager, elapsed);
+        for (PartitionMetrics entry : processManager.getMetrics().getPartitionMetrics()) {
+            out.printf("  %s: %d procesos terminados, utilización %.1f%%, retorno promedio %.2f%n",
+                    entry.getPartitionName(), entry.getCompletedCount(), entry.getUtilization() * 100,
+                    entry.getAverageTurnaroundTime());
+        }
+    }
+
+    private static PoissonWorkload createPoissonWorkload(String text, ProcessManager processManager) {
+        String[] parts = text.split(":");
+        if (parts.length < 4 || parts.length > 6) {
+            throw new IllegalArgumentException(
+                    "la carga abierta debe tener la forma poisson:tasa:ráfaga_media:horizonte[:prob_bloqueo[:semilla]]");
+        }
+        List<Scenario.PartitionSpec> partitions = new ArrayList<>();
+        for (Partition partition : processManager.getPartitions()) {
+            partitions.add(new Scenario.PartitionSpec(partition.getName(), partition.getSize()));
+        }
+        return new PoissonWorkload(partitions, parseDecimal(parts[1], "tasa de llegadas"),
+                parseDecimal(parts[2], "ráfaga media"), parsePositive(parts[3], "horizonte"),
+                parts.length > 4 ? parseDecimal(parts[4], "probabilidad de bloqueo") : 0,
+                parts.length > 5 ? parseSeed(parts[5]) : 1);
+    }
+
+    public int runParallel(List<Path> workloads) {
+        if (parallelPartitions) {
+            throw new IllegalStateException("--paralelo no admite --cpu-por-particion");
+        }
+        List<Scenario> scenarios = new ArrayList<>();
+        int failures = 0;
+        for (Path workload : workloads) {
+            try {
+                ProcessManager processManager = new ProcessManager();
+                load(workload, processManager);
+                processManager.setSchedulerConfig(schedulerConfig);
+                scenarios.add(Scenario.fromProcessManager(workload.toString(), processManager));
+            } catch (IOException | IllegalArgumentException ex) {
+                System.err.println(workload + ": " + ex.getMessage());
+                failures++;
+            }
+        }
+
+        BatchSimulator simulator = new BatchSimulator();
+        simulator.setSchedulingAlgorithm(schedulingAlgorithm);
+        BatchSimulator.BatchResult result;
+        try {
+            result = simulator.run(scenarios);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+
+        for (BatchSimulator.ScenarioResult scenario : result.getResults()) {
+            out.printf("%s: %d procesos (%d no ejecutados), %d ciclos, %.3f ms%n",
+                    scenario.getName(), scenario.getProcessCount(), scenario.getNotExecutedCount(),
+                    scenario.getCycles(), scenario.getElapsedNanos() / 1e6);
+            out.printf("  retorno promedio: %.2f, espera promedio: %.2f, respuesta promedio: %.2f%n",
+                    scenario.getAverageTurnaroundTime(), scenario.getAverageWaitingTime(),
+                    scenario.getAverageResponseTime());
+        }
+        out.printf("Total: %d escenarios en %.3f s (%.1f escenarios/s, aceleración %.2fx), %d con errores%n",
+                result.getScenarioCount(), result.getWallNanos() / 1e9, result.getScenariosPerSecond(),
+                result.getSpeedup(), failures);
+        out.printf("  ciclos: total %d, mínimo %d, máximo %d, promedio %.1f%n",
+                result.getTotalCycles(), result.getMinCycles(), result.getMaxCycles(), result.getAverageCycles());
+        out.printf("  %d procesos terminados, retorno promedio: %.2f, espera promedio: %.2f, respuesta promedio: %.2f%n",
+                result.getTotalCompleted(), result.getAverageTurnaroundTime(), result.getAverageWaitingTime(),
+                result.getAverageResponseTime());
+        return failures == 0 ? 0 : 1;
+    }
+
+    // Aplica las mismas validaciones que el formulario de la interfaz
+    private void load(Path workload, ProcessManager processManager) throws IOException {
+        processManager.importWorkload(workload);
+    }
+
+    private static long parsePositive(String text, String field) {
+        try {
+            long value = Long.parseLong(text);
+            if (value <= 0) {
+                throw new IllegalArgumentException("el " + field + " debe ser mayor a 0");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("valor inválido para " + field + ": " + text);
+        }
+    }
+
+    private static long parseNonNegative(String text, String field) {
+        try {
+            long value = Long.parseLong(text);
+            if (value < 0) {
+                throw new IllegalArgumentException("el " + field + " no puede ser negativo");
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("valor inválido para " + field + ": " + text);
+        }
+    }
+
+    private static double parseDecimal(String text, String field) {
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("valor inválido para " + field + ": " + text);
+        }
+    }
+
+    private static long parseSeed(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("valor inválido para semilla: " + text);
+        }
+    }
+
+    private static long[] parseSweepRange(String text) {
+        String[] parts = text.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("el barrido debe tener la forma desde:hasta:paso");
+        }
+        return new long[] {
+                parsePositive(parts[0], "inicio del barrido"),
+                parsePositive(parts[1], "fin del barrido"),
+                parsePositive(parts[2], "paso del barrido")
+        };
+    }
+
+    private static SchedulingAlgorithm parseAlgorithm(String text) {
+        for (SchedulingAlgorithm algorithm : SchedulingAlgorithm.values()) {
+            if (algorithm.name().equalsIgnoreCase(text) || algorithm.getName().equalsIgnoreCase(text)) {
+                return algorithm;
+            }
+        }
+        throw new IllegalArgumentException("planificador desconocido: " + text);
+    }
+
+    private void writeReports(Path workload, ProcessManager processManager) throws IOException {
+        if (outputDirectory == null) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            WritableByteChannel channel = Channels.newChannel(out);
+            for (Filter filter : Filter.values()) {
+                if (!processManager.getLogsByFilter(filter).isEmpty()) {
+                    writer.write("# " + filter.getDescription() + "\n");
+                    writer.flush();
+                    processManager.exportLogsCsv(channel, filter);
+                }
+            }
+            writer.write("# " + Filter.FINALIZACION_PARTICIONES.getDescription() + "\n");
+            writeFinalizationReport(writer, processManager);
+            writer.write("# " + Filter.METRICAS.getDescription() + "\n");
+            writeProcessMetrics(writer, processManager.getMetrics());
+            writer.write("# " + Filter.METRICAS_PARTICIONES.getDescription() + "\n");
+            writePartitionMetrics(writer, processManager.getMetrics());
+            writer.flush();
+            return;
+        }
+
+        String baseName = workload.getFileName().toString().replaceFirst("\\.[^.]*$", "");
+        Path directory = outputDirectory.resolve(baseName);
+        Files.createDirectories(directory);
+        if (columnarLogs) {
+            processManager.exportLogs(directory.resolve("registro.col"), null);
+        } else {
+            for (Filter filter : Filter.values()) {
+                if (!processManager.getLogsByFilter(filter).isEmpty()) {
+                    processManager.exportLogs(directory.resolve(filter.name().toLowerCase() + ".csv"), filter);
+                }
+            }
+        }
+        Path file = directory.resolve(Filter.FINALIZACION_PARTICIONES.name().toLowerCase() + ".csv");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeFinalizationReport(writer, processManager);
+        }
+        file = directory.resolve(Filter.METRICAS.name().toLowerCase() + ".csv");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeProcessMetrics(writer, processManager.getMetrics());
+        }
+        file = directory.resolve(Filter.METRICAS_PARTICIONES.name().toLowerCase() + ".csv");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writePartitionMetrics(writer, processManager.getMetrics());
+        }
+    }
+
+    // Los valores sin definir (proceso no terminado) se escriben como -1
+    private static void writeProcessMetrics(Writer writer, SimulationMetrics metrics) throws IOException {
+        writer.write("proceso,particion,llegada,primer_despacho,finalizacion,retorno,espera,respuesta\n");
+        for (ProcessMetrics entry : metrics.getProcessMetrics()) {
+            writer.write(csv(entry.getProcessName()) + "," + csv(entry.getPartitionName()) + ","
+                    + entry.getArrivalTime() + "," + entry.getFirstDispatchTime() + ","
+                    + entry.getCompletionTime() + "," + entry.getTurnaroundTime() + ","
+                    + entry.getWaitingTime() + "," + entry.getResponseTime() + "\n");
+        }
+    }
+
+    private static void writePartitionMetrics(Writer writer, SimulationMetrics metrics) throws IOException {
+        writer.write("particion,procesos,terminados,tiempo_cpu,tiempo_transcurrido,utilizacion,rendimiento,"
+                + "retorno_promedio,espera_promedio,respuesta_promedio\n");
+        for (PartitionMetrics entry : metrics.getPartitionMetrics()) {
+            writer.write(csv(entry.getPartitionName()) + "," + entry.getProcessCount() + ","
+                    + entry.getCompletedCount() + "," + entry.getBusyTime() + "," + entry.getElapsedTime() + ","
+                    + entry.getUtilization() + "," + entry.getThroughput() + ","
+                    + entry.getAverageTurnaroundTime() + "," + entry.getAverageWaitingTime() + ","
+                    + entry.getAverageResponseTime() + "\n");
+        }
+    }
+
+    private static void writeFinalizationReport(Writer writer, ProcessManager processManager) throws IOException {
+        writer.write("particion,tamano,procesos,tiempo_total\n");
+        for (ProcessManager.PartitionFinalizationInfo info : processManager.getPartitionFinalizationReport()) {
+            writer.write(csv(info.getName()) + "," + info.getSize() + "," + csv(info.getProcessNames())
+                    + "," + info.getTotalTime() + "\n");
+        }
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void printSweep(QuantumSweep.Result result) {
+        out.println("  barrido de quantum (quantum, retorno promedio, tiempo simulado):");
+        for (QuantumSweep.Point point : result.getPoints()) {
+            out.printf("    %d, %.2f, %d%n", point.getQuantum(), point.getAverageTurnaroundTime(),
+                    point.getSimulationTime());
+        }
+        if (result.getBest() != null) {
+            out.printf("  mejor quantum: %d (retorno promedio %.2f)%n", result.getBest().getQuantum(),
+                    result.getBest().getAverageTurnaroundTime());
+        }
+    }
+
+    private void printSummary(Path workload, ProcessManager processManager, long elapsedNanos) {
+        double millis = elapsedNanos / 1e6;
+        long cycles = processManager.getCompletedCycles();
+        out.printf("== %s%n", workload);
+        SchedulerConfig config = processManager.getSchedulerConfig();
+        out.printf("  planificador: %s (quantum %d, cambio de contexto %d, bloqueo E/S %d, dispositivos E/S %d)%n",
+                processManager.getSchedulingAlgorithm().getName(), config.getQuantum(),
+                config.getContextSwitchTime(), config.getIoBlockTime(), config.getIoDevices());
+        if (openWorkload != null) {
+            out.printf("  particiones: %d, carga abierta: %s, procesos terminados: %d%n",
+                    processManager.getPartitions().size(), openWorkload,
+                    processManager.getMetrics().getCompletedCount());
+        } else {
+            out.printf("  particiones: %d, procesos: %d, no ejecutados: %d%n",
+                    processManager.getPartitions().size(),
+                    processManager.getInitialProcesses().size(),
+                    processManager.getLogsByFilter(Filter.NO_EJECUTADO).size());
+        }
+        out.printf("  ciclos: %d en %.3f ms (%.0f ciclos/s)%n",
+                cycles, millis, millis > 0 ? cycles / (millis / 1000) : 0.0);
+        SimulationMetrics metrics = processManager.getMetrics();
+        out.printf("  tiempo simulado: %d, utilización de CPU: %.1f%%, rendimiento: %.4f procesos/u%n",
+                metrics.getSimulationTime(), metrics.getCpuUtilization() * 100, metrics.getThroughput());
+        out.printf("  CPU inactiva sin procesos listos: %d (%.1f%%)%n",
+                metrics.getIdleTime(), metrics.getIdleFraction() * 100);
+        out.printf("  retorno promedio: %.2f, espera promedio: %.2f, respuesta promedio: %.2f%n",
+                metrics.getAverageTurnaroundTime(), metrics.getAverageWaitingTime(),
+                metrics.getAverageResponseTime());
+        for (Filter filter : Filter.values()) {
+            int count = processManager.getLogsByFilter(filter).size();
+            if (count > 0) {
+                out.printf("  %-28s %d%n", filter.getName() + ":", count);
+            }
+        }
+    }
+}
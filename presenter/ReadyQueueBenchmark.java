@@ -0,0 +1,87 @@
+package presenter;
+
+import model.Process;
+import model.ReadyQueue;
+import model.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Compara la cola de listos de Round Robin (ReadyQueue) con la lista que usaba antes
+// el ciclo (ArrayList con remove(0)). Cada proceso necesita 'ciclos' quantums y se
+// reencola mientras no termine, igual que en SimulationEngine.
+//
+// Uso: java presenter.ReadyQueueBenchmark [ciclos] [procesos ...]
+// Por defecto 10 ciclos con 10.000, 50.000 y 100.000 procesos.
+public class ReadyQueueBenchmark {
+    private static final long QUANTUM = 1;
+    private static final int WARMUP_ROUNDS = 2;
+
+    public static void main(String[] args) {
+        long cycles = args.length > 0 ? Long.parseLong(args[0]) : 10;
+        int[] sizes = { 10_000, 50_000, 100_000 };
+        if (args.length > 1) {
+            sizes = new int[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                sizes[i - 1] = Integer.parseInt(args[i]);
+            }
+        }
+
+        // Calentamiento con la carga más chica para que el JIT compile ambos ciclos
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runList(createProcesses(sizes[0], cycles));
+            runReadyQueue(createProcesses(sizes[0], cycles));
+        }
+
+        System.out.printf("%-10s %-10s %14s %14s %10s%n", "procesos", "ciclos", "ArrayList ms", "ReadyQueue ms",
+                "mejora");
+        for (int size : sizes) {
+            long listNanos = runList(createProcesses(size, cycles));
+            long queueNanos = runReadyQueue(createProcesses(size, cycles));
+            System.out.printf("%-10d %-10d %14.1f %14.1f %9.1fx%n", size, size * cycles, listNanos / 1e6,
+                    queueNanos / 1e6, (double) listNanos / Math.max(1, queueNanos));
+        }
+    }
+
+    private static List<Process> createProcesses(int count, long cycles) {
+        List<Process> processes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            processes.add(new Process("P" + i, cycles * QUANTUM, Status.NO_BLOQUEADO, 1, null));
+        }
+        return processes;
+    }
+
+    private static long runList(List<Process> processes) {
+        long start = System.nanoTime();
+        ArrayList<Process> readyQueue = new ArrayList<>(processes);
+        while (!readyQueue.isEmpty()) {
+            Process process = readyQueue.remove(0);
+            if (!executeSlice(process)) {
+                readyQueue.add(process);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long runReadyQueue(List<Process> processes) {
+        long start = System.nanoTime();
+        ReadyQueue readyQueue = new ReadyQueue(processes.size());
+        for (Process process : processes) {
+            readyQueue.add(process);
+        }
+        while (!readyQueue.isEmpty()) {
+            int slot = readyQueue.poll();
+            if (!executeSlice(readyQueue.get(slot))) {
+                readyQueue.offer(slot);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    // Devuelve true si el proceso terminó
+    private static boolean executeSlice(Process process) {
+        process.subtractTime(QUANTUM);
+        process.incrementCycle();
+        return process.isFinished();
+    }
+}
@@ -0,0 +1,221 @@
+package view;
+
+import model.Filter;
+import model.Log;
+import model.LogStore;
+import model.ProcessManager;
+import model.SimulationListener;
+import model.TimeMath;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Ocupación de la CPU en el tiempo simulado, por partición y por proceso. Se alimenta
+// de los eventos de ejecución a medida que la simulación los produce y guarda un
+// histograma de tamaño fijo por carril: cuando el tiempo supera el rango cubierto,
+// las cubetas se fusionan de a pares. Asi dibujar cuesta lo mismo con cien ciclos
+// que con millones.
+class GanttModel implements SimulationListener {
+    static final int BUCKETS = 2048;
+
+    private final ProcessManager processManager;
+    private final List<Lane> partitionLanes = new ArrayList<>();
+    private final Map<String, Lane> partitionsByName = new HashMap<>();
+    private final Map<String, Lane> processesByName = new HashMap<>();
+    private long bucketWidth = 1;
+    private long endTime;
+    private long maxSliceTime;
+    private long version;
+    private boolean running;
+    // Ejecuciones de la última simulación terminada, para dibujar las porciones exactas
+    private LogStore.FilterLog executions;
+
+    GanttModel(ProcessManager processManager) {
+        this.processManager = processManager;
+    }
+
+    @Override
+    public synchronized void onSimulationStarted() {
+        clear();
+        running = true;
+    }
+
+    // Se llama en el hilo de la simulación, ya sin ciclos pendientes de registrar
+    @Override
+    public synchronized void onSimulationFinished() {
+        running = false;
+        executions = processManager.getFilterLog(Filter.EN_EJECUCION);
+        version++;
+    }
+
+    // Solo interesan las ejecuciones; los demás Log ni siquiera se crean
+    @Override
+    public boolean accepts(Filter filter) {
+        return filter == Filter.EN_EJECUCION;
+    }
+
+    @Override
+    public void onLog(Log log) {
+        addExecution(log.getPartitionName(), log.getProcessName(), log.getTime(),
+                Math.min(log.getRemainingTime(), log.getTimeSlice()), log.getRepetitions(), log.getPeriod());
+    }
+
+    // Registra 'repetitions' porciones de 'sliceTime' unidades, la primera en 'startTime'
+    // y cada una 'period' unidades después de la anterior
+    synchronized void addExecution(String partitionName, String processName, long startTime, long sliceTime,
+                                   long repetitions, long period) {
+        Lane processLane = processesByName.get(processName);
+        if (processLane == null) {
+            Lane partitionLane = partitionsByName.get(partitionName);
+            if (partitionLane == null) {
+                partitionLane = new Lane(partitionName, null);
+                partitionsByName.put(partitionName, partitionLane);
+                partitionLanes.add(partitionLane);
+            }
+            processLane = new Lane(processName, partitionLane);
+            partitionLane.processes.add(processLane);
+            processesByName.put(processName, processLane);
+        }
+
+        long end = TimeMath.saturatedAdd(TimeMath.saturatedAdd(startTime,
+                TimeMath.saturatedMultiply(repetitions - 1, period)), sliceTime);
+        fit(end);
+        endTime = Math.max(endTime, end);
+        maxSliceTime = Math.max(maxSliceTime, sliceTime);
+
+        // Las repeticiones comprimidas se reparten uniformemente en su intervalo
+        double density = repetitions > 1 && period > sliceTime ? (double) sliceTime / period : 1;
+        addSpan(processLane, startTime, end, density);
+        addSpan(processLane.partition, startTime, end, density);
+        version++;
+    }
+
+    synchronized void clear() {
+        partitionLanes.clear();
+        partitionsByName.clear();
+        processesByName.clear();
+        bucketWidth = 1;
+        endTime = 0;
+        maxSliceTime = 0;
+        running = false;
+        executions = null;
+        version++;
+    }
+
+    // Carriles en orden de dibujo: cada partición seguida de sus procesos
+    synchronized List<Lane> getLanes() {
+        List<Lane> lanes = new ArrayList<>();
+        for (Lane partitionLane : partitionLanes) {
+            lanes.add(partitionLane);
+            lanes.addAll(partitionLane.processes);
+        }
+        return lanes;
+    }
+
+    // Fracción ocupada de cada columna de píxeles a partir de 'viewStart', con
+    // 'timePerPixel' unidades por columna. Recorre una vez las cubetas visibles.
+    synchronized void fillOccupancy(Lane lane, double viewStart, double timePerPixel, double[] columns) {
+        Arrays.fill(columns, 0);
+        double viewEnd = viewStart + timePerPixel * columns.length;
+        int first = (int) Math.max(0, Math.min(BUCKETS, Math.floor(viewStart / bucketWidth)));
+        int last = (int) Math.max(0, Math.min(BUCKETS, Math.ceil(viewEnd / bucketWidth)));
+        for (int b = first; b < last; b++) {
+            if (lane.busy[b] == 0) {
+                continue;
+            }
+            double density = lane.busy[b] / bucketWidth;
+            double from = ((double) b * bucketWidth - viewStart) / timePerPixel;
+            double to = ((double) (b + 1) * bucketWidth - viewStart) / timePerPixel;
+            int x = (int) Math.max(0, Math.floor(from));
+            int xEnd = (int) Math.min(columns.length, Math.ceil(to));
+            for (; x < xEnd; x++) {
+                double covered = Math.min(to, x + 1) - Math.max(from, x);
+                columns[x] += density * covered;
+            }
+        }
+    }
+
+    synchronized long getBucketWidth() {
+        return bucketWidth;
+    }
+
+    synchronized long getEndTime() {
+        return endTime;
+    }
+
+    synchronized long getMaxSliceTime() {
+        return maxSliceTime;
+    }
+
+    synchronized long getVersion() {
+        return version;
+    }
+
+    synchronized boolean isRunning() {
+        return running;
+    }
+
+    // null mientras simula o si no hubo simulación
+    synchronized LogStore.FilterLog getExecutions() {
+        return executions;
+    }
+
+    // Duplica el ancho de las cubetas hasta que el histograma cubra 'time'
+    private void fit(long time) {
+        while (time > bucketWidth * BUCKETS && bucketWidth <= Long.MAX_VALUE / (2L * BUCKETS)) {
+            for (Lane partitionLane : partitionLanes) {
+                partitionLane.coarsen();
+                for (Lane processLane : partitionLane.processes) {
+                    processLane.coarsen();
+                }
+            }
+            bucketWidth *= 2;
+        }
+    }
+
+    private void addSpan(Lane lane, long from, long to, double density) {
+        long capacity = bucketWidth * BUCKETS;
+        to = Math.min(to, capacity);
+        if (from >= to) {
+            return;
+        }
+        int first = (int) (from / bucketWidth);
+        int last = (int) ((to - 1) / bucketWidth);
+        for (int b = first; b <= last; b++) {
+            long bucketStart = b * bucketWidth;
+            long covered = Math.min(to, bucketStart + bucketWidth) - Math.max(from, bucketStart);
+            lane.busy[b] += covered * density;
+        }
+    }
+
+    static final class Lane {
+        private final String name;
+        // null en los carriles de partición
+        private final Lane partition;
+        private final List<Lane> processes = new ArrayList<>();
+        private double[] busy = new double[BUCKETS];
+
+        Lane(String name, Lane partition) {
+            this.name = name;
+            this.partition = partition;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        boolean isPartition() {
+            return partition == null;
+        }
+
+        private void coarsen() {
+            double[] merged = new double[BUCKETS];
+            for (int b = 0; b < BUCKETS / 2; b++) {
+                merged[b] = busy[2 * b] + busy[2 * b + 1];
+            }
+            busy = merged;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package view;
+
+import model.Log;
+import model.LogStore;
+import model.ProcessManager;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Diagrama de Gantt de la ocupación de la CPU en el tiempo simulado. Con poco zoom
+// cada columna de píxeles se pinta según la fracción ocupada en el histograma del
+// GanttModel; al acercarse por debajo del ancho de las cubetas se dibujan las
+// porciones exactas consultando el registro por ventana de tiempo.
+//
+// Rueda: zoom en torno al cursor. Mayús + rueda: desplazamiento vertical.
+// Arrastrar: desplazar. Doble clic: volver a ver la simulación completa.
+public class GanttPanel extends JPanel {
+    private static final long serialVersionUID = 1L;
+    private static final int LABEL_WIDTH = 140;
+    private static final int AXIS_HEIGHT = 24;
+    private static final int LANE_HEIGHT = 18;
+    private static final int REFRESH_MILLIS = 250;
+    // Más registros que estos en la ventana se dibujan con el histograma
+    private static final int MAX_EXACT_LOGS = 100_000;
+    private static final double ZOOM_FACTOR = 1.25;
+    private static final Color PARTITION_COLOR = new Color(44, 62, 80);
+
+    private final GanttModel model;
+    private final NumberFormat numberFormatter;
+    private final Timer refreshTimer;
+    private long paintedVersion = -1;
+
+    // Ventana visible; mientras 'fitAll' esté activo se ajusta a toda la simulación
+    private double viewStart;
+    private double viewSpan = 1;
+    private boolean fitAll = true;
+    private int scrollY;
+
+    // Última consulta de porciones exactas, reutilizada mientras no cambie la ventana
+    private LogStore.FilterLog exactSource;
+    private long exactFrom = -1;
+    private long exactTo = -1;
+    private Map<String, List<Log>> exactLogs;
+
+    public GanttPanel(ProcessManager processManager, NumberFormat numberFormatter) {
+        this.numberFormatter = numberFormatter;
+        this.model = new GanttModel(processManager);
+        setBackground(Color.WHITE);
+        processManager.addSimulationListener(model);
+
+        // Mientras simula, redibuja solo si llegaron eventos nuevos
+        refreshTimer = new Timer(REFRESH_MILLIS, e -> {
+            if (model.getVersion() != paintedVersion) {
+                repaint();
+            }
+        });
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            private Point lastPoint;
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                lastPoint = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (lastPoint == null) {
+                    return;
+                }
+                fitAll = false;
+                viewStart = Math.max(0, viewStart - (e.getX() - lastPoint.x) * getTimePerPixel());
+                scrollBy(lastPoint.y - e.getY());
+                lastPoint = e.getPoint();
+                repaint();
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    fitAll = true;
+                    scrollY = 0;
+                    repaint();
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (e.isShiftDown()) {
+                    scrollBy(e.getWheelRotation() * LANE_HEIGHT * 3);
+                } else {
+                    zoom(e.getX() - LABEL_WIDTH, Math.pow(ZOOM_FACTOR, e.getWheelRotation()));
+                }
+                repaint();
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+        addMouseWheelListener(mouseHandler);
+    }
+
+    public void clear() {
+        model.clear();
+        fitAll = true;
+        scrollY = 0;
+        repaint();
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        refreshTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        refreshTimer.stop();
+        super.removeNotify();
+    }
+
+    // Acerca (factor < 1) o aleja manteniendo fijo el instante bajo el cursor
+    private void zoom(int x, double factor) {
+        double anchor = viewStart + Math.max(0, x) * getTimePerPixel();
+        double maxSpan = Math.max(1, model.getEndTime()) * 2.0;
+        double span = Math.max(1, Math.min(maxSpan, viewSpan * factor));
+        viewStart = Math.max(0, anchor - (anchor - viewStart) * span / viewSpan);
+        viewSpan = span;
+        fitAll = false;
+    }
+
+    private void scrollBy(int dy) {
+        int contentHeight = model.getLanes().size() * LANE_HEIGHT;
+        int visibleHeight = Math.max(0, getHeight() - AXIS_HEIGHT);
+        scrollY = Math.max(0, Math.min(Math.max(0, contentHeight - visibleHeight), scrollY + dy));
+    }
+
+    private int getPlotWidth() {
+        return Math.max(1, getWidth() - LABEL_WIDTH);
+    }
+
+    private double getTimePerPixel() {
+        return viewSpan / getPlotWidth();
+    }
+
+    @Override
+    protected void paintComponent(Graphics graphics) {
+        super.paintComponent(graphics);
+        paintedVersion = model.getVersion();
+        Graphics2D g = (Graphics2D) graphics;
+        if (fitAll) {
+            viewStart = 0;
+            viewSpan = Math.max(1, model.getEndTime());
+        }
+
+        List<GanttModel.Lane> lanes = model.getLanes();
+        if (lanes.isEmpty()) {
+            g.setColor(Color.GRAY);
+            g.drawString("Ejecute una simulación para ver el diagrama de Gantt", LABEL_WIDTH, AXIS_HEIGHT * 2);
+            return;
+        }
+
+        int plotWidth = getPlotWidth();
+        double timePerPixel = getTimePerPixel();
+        Map<String, List<Log>> exactLogs = timePerPixel < model.getBucketWidth() ? queryExactLogs() : null;
+
+        Shape clip = g.getClip();
+        g.clipRect(0, AXIS_HEIGHT, getWidth(), getHeight() - AXIS_HEIGHT);
+        double[] columns = new double[plotWidth];
+        int firstLane = scrollY / LANE_HEIGHT;
+        for (int i = firstLane; i < lanes.size(); i++) {
+            int y = AXIS_HEIGHT + i * LANE_HEIGHT - scrollY;
+            if (y > getHeight()) {
+                break;
+            }
+            GanttModel.Lane lane = lanes.get(i);
+            Color color = getLaneColor(lane);
+            if (i % 2 == 0) {
+                g.setColor(new Color(245, 245, 245));
+                g.fillRect(0, y, getWidth(), LANE_HEIGHT);
+            }
+
+            if (exactLogs != null) {
+                paintExactLane(g, exactLogs.get(lane.isPartition() ? "P:" + lane.getName() : lane.getName()),
+                        y, color, timePerPixel);
+            } else {
+                model.fillOccupancy(lane, viewStart, timePerPixel, columns);
+                paintOccupancy(g, columns, y, color);
+            }
+
+            g.setColor(lane.isPartition() ? PARTITION_COLOR : Color.DARK_GRAY);
+            g.setFont(new Font("Arial", lane.isPartition() ? Font.BOLD : Font.PLAIN, 12));
+            g.drawString(lane.isPartition() ? lane.getName() : "  " + lane.getName(), 4, y + LANE_HEIGHT - 5);
+        }
+        g.setClip(clip);
+        paintAxis(g, plotWidth, timePerPixel);
+    }
+
+    // Agrupa las columnas contiguas con la misma intensidad en un solo rectángulo
+    private void paintOccupancy(Graphics2D g, double[] columns, int y, Color color) {
+        int x = 0;
+        while (x < columns.length) {
+            int alpha = toAlpha(columns[x]);
+            int end = x + 1;
+            while (end < columns.length && toAlpha(columns[end]) == alpha) {
+                end++;
+            }
+            if (alpha > 0) {
+                g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha));
+                g.fillRect(LABEL_WIDTH + x, y + 2, end - x, LANE_HEIGHT - 4);
+            }
+            x = end;
+        }
+    }
+
+    private int toAlpha(double occupancy) {
+        if (occupancy <= 0) {
+            return 0;
+        }
+        return (int) (60 + 195 * Math.min(1, occupancy));
+    }
+
+    private void paintExactLane(Graphics2D g, List<Log> logs, int y, Color color, double timePerPixel) {
+        if (logs == null) {
+            return;
+        }
+        g.setColor(color);
+        double viewEnd = viewStart + viewSpan;
+        for (Log log : logs) {
+            long slice = Math.min(log.getRemainingTime(), log.getTimeSlice());
+            long period = Math.max(1, log.getPeriod());
+            // Primera repetición que puede verse
+            long first = log.isCompressed() && log.getTime() + slice < viewStart
+                    ? (long) ((viewStart - log.getTime() - slice) / period)
+                    : 0;
+            for (long j = first; j < log.getRepetitions(); j++) {
+                double start = log.getTime() + (double) j * period;
+                if (start >= viewEnd) {
+                    break;
+                }
+                double from = Math.max(0, (start - viewStart) / timePerPixel);
+                double to = Math.min(getPlotWidth(), (start + slice - viewStart) / timePerPixel);
+                if (to > 0) {
+                    int x = (int) Math.floor(from);
+                    g.fillRect(LABEL_WIDTH + x, y + 2, Math.max(1, (int) Math.ceil(to) - x), LANE_HEIGHT - 4);
+                }
+            }
+        }
+    }
+
+    // Porciones en la ventana visible, por proceso y por partición ("P:" + nombre);
+    // solo con la simulación terminada y si son pocas. Se leen del FilterLog que el
+    // modelo guardó al terminar, nunca del registro que otra simulación puede estar
+    // llenando, y se reutilizan hasta que cambia la ventana.
+    private Map<String, List<Log>> queryExactLogs() {
+        LogStore.FilterLog executions = model.getExecutions();
+        if (executions == null) {
+            return null;
+        }
+        long from = (long) Math.max(0, viewStart - model.getMaxSliceTime());
+        long to = (long) Math.min(Long.MAX_VALUE, Math.ceil(viewStart + viewSpan));
+        if (executions == exactSource && from == exactFrom && to == exactTo) {
+            return exactLogs;
+        }
+        exactSource = executions;
+        exactFrom = from;
+        exactTo = to;
+        exactLogs = null;
+
+        List<Log> logs = executions.getLogsBetween(from, to);
+        if (logs.size() > MAX_EXACT_LOGS) {
+            return null;
+        }
+        Map<String, List<Log>> logsByLane = new HashMap<>();
+        for (Log log : logs) {
+            logsByLane.computeIfAbsent(log.getProcessName(), k -> new ArrayList<>()).add(log);
+            logsByLane.computeIfAbsent("P:" + log.getPartitionName(), k -> new ArrayList<>()).add(log);
+        }
+        exactLogs = logsByLane;
+        return exactLogs;
+    }
+
+    private void paintAxis(Graphics2D g, int plotWidth, double timePerPixel) {
+        g.setColor(getBackground());
+        g.fillRect(0, 0, getWidth(), AXIS_HEIGHT);
+        g.setColor(Color.GRAY);
+        g.drawLine(LABEL_WIDTH, AXIS_HEIGHT - 1, getWidth(), AXIS_HEIGHT - 1);
+        g.setFont(new Font("Arial", Font.PLAIN, 11));
+
+        double step = getTickStep(viewSpan / 8);
+        double tick = Math.ceil(viewStart / step) * step;
+        for (; tick <= viewStart + viewSpan; tick += step) {
+            int x = LABEL_WIDTH + (int) ((tick - viewStart) / timePerPixel);
+            g.drawLine(x, AXIS_HEIGHT - 6, x, AXIS_HEIGHT - 1);
+            g.drawString(numberFormatter.format((long) tick), x + 2, AXIS_HEIGHT - 8);
+        }
+        g.drawString("Tiempo", 4, AXIS_HEIGHT - 8);
+    }
+
+    // Paso de 1, 2 o 5 por potencia de diez, de al menos 'minStep'
+    private double getTickStep(double minStep) {
+        double magnitude = Math.pow(10, Math.floor(Math.log10(Math.max(1, minStep))));
+        for (int factor : new int[] { 1, 2, 5, 10 }) {
+            if (magnitude * factor >= minStep) {
+                return magnitude * factor;
+            }
+        }
+        return magnitude * 10;
+    }
+
+    private Color getLaneColor(GanttModel.Lane lane) {
+        if (lane.isPartition()) {
+            return PARTITION_COLOR;
+        }
+        float hue = (lane.getName().hashCode() & 0xffff) / (float) 0xffff;
+        return Color.getHSBColor(hue, 0.6f, 0.8f);
+    }
+}
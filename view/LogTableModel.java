@@ -0,0 +1,101 @@
+package view;
+
+import model.Log;
+import javax.swing.table.AbstractTableModel;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.List;
+
+// Modelo de tabla que lee directamente las vistas del registro de la simulación.
+// No copia filas: JTable solo pide las celdas visibles y cada una se formatea
+// en el momento.
+public class LogTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+    private static final String[] COLUMN_NAMES = {
+            "Proceso", "Tiempo Restante", "Estado", "Tamaño", "Partición", "Ciclos", "Instante"
+    };
+
+    private List<Log> logs;
+    private NumberFormat numberFormatter;
+
+    public LogTableModel(NumberFormat numberFormatter) {
+        this.numberFormatter = numberFormatter;
+        this.logs = Collections.emptyList();
+    }
+
+    public void setLogs(List<Log> logs) {
+        this.logs = logs;
+        fireTableDataChanged();
+    }
+
+    public void clear() {
+        setLogs(Collections.emptyList());
+    }
+
+    @Override
+    public int getRowCount() {
+        return logs.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Log log = logs.get(row);
+        switch (column) {
+            case 0:
+                return log.getProcessName();
+            case 1:
+                return formatRemainingTime(log);
+            case 2:
+                return log.getStatusString();
+            case 3:
+                return numberFormatter.format(log.getSize());
+            case 4:
+                return log.getPartitionName();
+            case 5:
+                return formatCycles(log);
+            default:
+                return formatTime(log);
+        }
+    }
+
+    // Los registros comprimidos cubren varios ciclos: se muestra el rango
+    private String formatRemainingTime(Log log) {
+        if (!log.isCompressed()) {
+            return numberFormatter.format(log.getRemainingTime());
+        }
+        return numberFormatter.format(log.getRemainingTime()) + " → "
+                + numberFormatter.format(log.getLastRemainingTime());
+    }
+
+    private Object formatCycles(Log log) {
+        if (!log.isCompressed()) {
+            return log.getCycleCount();
+        }
+        return numberFormatter.format(log.getCycleCount()) + " - "
+                + numberFormatter.format(log.getLastCycleCount());
+    }
+
+    // Instante simulado del evento; en los comprimidos, el primero y el último
+    private String formatTime(Log log) {
+        if (!log.isCompressed()) {
+            return numberFormatter.format(log.getTime());
+        }
+        return numberFormatter.format(log.getTime()) + " - "
+                + numberFormatter.format(log.getLastTime());
+    }
+}
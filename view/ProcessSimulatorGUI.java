@@ -2,6 +2,8 @@ package view;
 
 import model.*;
 import javax.swing.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -11,8 +13,14 @@ import java.awt.event.KeyListener;
 import java.io.File;
 import java.io.IOException;
 import java.text.NumberFormat;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Vector;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 public class ProcessSimulatorGUI extends JFrame implements ActionListener {
@@ -22,6 +30,8 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     private JTextField txtProcessName;
     private JTextField txtProcessTime;
     private JTextField txtProcessSize;
+    private JTextField txtProcessPriority;
+    private JTextField txtProcessArrival;
     private JComboBox<String> cmbStatus;
     private JComboBox<Partition> cmbPartition;
 
@@ -29,6 +39,16 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     private JTextField txtPartitionName;
     private JTextField txtPartitionSize;
 
+    // Componentes del planificador
+    private JComboBox<SchedulingAlgorithm> cmbSchedulingAlgorithm;
+    private JTextField txtQuantum;
+    private JTextField txtContextSwitch;
+    private JTextField txtIoBlock;
+    private JTextField txtIoDevices;
+    private JTextField txtSweepFrom;
+    private JTextField txtSweepTo;
+    private JTextField txtSweepStep;
+
     // Tablas
     private DefaultTableModel processTableModel;
     private JTable processTable;
@@ -38,20 +58,28 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     // Panel de resultados
     private JPanel resultsPanel;
     private CardLayout cardLayout;
-
-    private DefaultTableModel[] resultTableModels;
+    private GanttPanel ganttPanel;
+    private static final String GANTT_CARD = "Diagrama de Gantt";
+    private static final String SCENARIO_EXTENSION = "escenario";
+
+    // Índices 9 a 13 son informes (DefaultTableModel); el resto son vistas del registro
+    private AbstractTableModel[] resultTableModels;
+    // Las tablas se construyen al mostrarse y se reutilizan hasta que cambian los datos
+    private boolean[] resultTableBuilt;
     private String[] tableNames = {
             "Inicial", "Listo", "Despachar", "En Ejecución",
             "Expiración de Tiempo", "Espera de E/S", "Bloqueado", 
             "<html>Terminacion de operacion<br>E/S o evento-De Bloqueo a Listo</html>", "Salidas",
-            "Particiones", "Finalización de Particiones", "No Ejecutados"
+            "Particiones", "Finalización de Particiones", "No Ejecutados",
+            "Métricas", "Métricas por Partición"
     };
 
     private Filter[] filters = {
             Filter.INICIAL, Filter.LISTO, Filter.DESPACHAR, Filter.EN_EJECUCION,
             Filter.TIEMPO_EXPIRADO, Filter.TRANSICION_BLOQUEO, Filter.BLOQUEADO, 
             Filter.DESPERTAR, Filter.FINALIZADO,
-            Filter.PARTICIONES, Filter.FINALIZACION_PARTICIONES, Filter.NO_EJECUTADO
+            Filter.PARTICIONES, Filter.FINALIZACION_PARTICIONES, Filter.NO_EJECUTADO,
+            Filter.METRICAS, Filter.METRICAS_PARTICIONES
     };
 
     private String currentAction;
@@ -60,6 +88,14 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     // ComboBox para filtro de particiones en Listo
     private JComboBox<String> cmbPartitionFilter;
 
+    // Simulación en segundo plano
+    private SimulationWorker<?> simulationWorker;
+    private JProgressBar progressBar;
+    private JButton btnCancelSimulation;
+    private JCheckBox chkParallelPartitions;
+    // Controles que modifican o consultan el ProcessManager: se bloquean mientras simula
+    private List<JComponent> simulationLockedComponents = new ArrayList<>();
+
     public ProcessSimulatorGUI() {
         processManager = new ProcessManager();
         numberFormatter = NumberFormat.getNumberInstance(new Locale("es", "ES"));
@@ -78,20 +114,40 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         txtProcessName = new JTextField(15);
         txtProcessTime = new JTextField(15);
         txtProcessSize = new JTextField(15);
+        txtProcessPriority = new JTextField("0", 15);
+        txtProcessArrival = new JTextField("0", 15);
         cmbStatus = new JComboBox<>(new String[] { "No bloqueado", "Bloqueado" });
         cmbPartition = new JComboBox<>();
 
         setupTimeField(txtProcessTime);
         setupTimeField(txtProcessSize);
+        setupTimeField(txtProcessArrival);
 
         // Campos de Particiones
         txtPartitionName = new JTextField(15);
         txtPartitionSize = new JTextField(15);
         setupTimeField(txtPartitionSize);
 
+        // Planificador
+        cmbSchedulingAlgorithm = new JComboBox<>(SchedulingAlgorithm.values());
+        txtQuantum = new JTextField(String.valueOf(model.Constants.QUANTUM_TIME), 10);
+        txtContextSwitch = new JTextField("0", 10);
+        txtIoBlock = new JTextField("0", 10);
+        txtIoDevices = new JTextField("1", 10);
+        txtSweepFrom = new JTextField("1", 6);
+        txtSweepTo = new JTextField("20", 6);
+        txtSweepStep = new JTextField("1", 6);
+        setupTimeField(txtQuantum);
+        setupTimeField(txtContextSwitch);
+        setupTimeField(txtIoBlock);
+        setupTimeField(txtIoDevices);
+        setupTimeField(txtSweepFrom);
+        setupTimeField(txtSweepTo);
+        setupTimeField(txtSweepStep);
+
         // Tabla de Procesos
         processTableModel = new DefaultTableModel(
-                new String[] { "Nombre", "Tiempo", "Estado", "Tamaño", "Partición" },
+                new String[] { "Nombre", "Tiempo", "Estado", "Tamaño", "Partición", "Prioridad", "Llegada" },
                 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -117,7 +173,8 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         cardLayout = new CardLayout();
         resultsPanel = new JPanel(cardLayout);
 
-        resultTableModels = new DefaultTableModel[tableNames.length];
+        resultTableModels = new AbstractTableModel[tableNames.length];
+        resultTableBuilt = new boolean[tableNames.length];
         for (int i = 0; i < tableNames.length; i++) {
             // Tabla especial para Particiones (índice 9)
             if (i == 9) {
@@ -152,9 +209,11 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
                     }
                 };
             } 
-            else {
+            // Tabla de métricas por proceso (índice 12)
+            else if (i == 12) {
                 resultTableModels[i] = new DefaultTableModel(
-                        new String[] { "Proceso", "Tiempo Restante", "Estado", "Tamaño", "Partición", "Ciclos" },
+                        new String[] { "Proceso", "Partición", "Llegada", "Primer Despacho", "Finalización",
+                                "Retorno", "Espera", "Respuesta" },
                         0) {
                     @Override
                     public boolean isCellEditable(int row, int column) {
@@ -162,16 +221,40 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
                     }
                 };
             }
+            // Tabla de métricas por partición (índice 13)
+            else if (i == 13) {
+                resultTableModels[i] = new DefaultTableModel(
+                        new String[] { "Partición", "Procesos", "Tiempo de CPU", "Tiempo Transcurrido",
+                                "Utilización", "Rendimiento", "Retorno Prom.", "Espera Prom.", "Respuesta Prom." },
+                        0) {
+                    @Override
+                    public boolean isCellEditable(int row, int column) {
+                        return false;
+                    }
+                };
+            }
+            else {
+                resultTableModels[i] = new LogTableModel(numberFormatter);
+            }
 
             JTable table = new JTable(resultTableModels[i]);
             table.setFont(new Font("Arial", Font.PLAIN, 14));
             JScrollPane scrollPane = new JScrollPane(table);
             resultsPanel.add(scrollPane, tableNames[i]);
         }
+
+        // El diagrama se llena durante la simulación, asi se puede ver mientras avanza
+        ganttPanel = new GanttPanel(processManager, numberFormatter);
+        resultsPanel.add(ganttPanel, GANTT_CARD);
         
         // ComboBox para filtro de particiones
         cmbPartitionFilter = new JComboBox<>();
         cmbPartitionFilter.addItem("Todas las particiones");
+
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setPreferredSize(new Dimension(260, 40));
+        progressBar.setVisible(false);
     }
 
     private void setupTimeField(JTextField textField) {
@@ -309,6 +392,10 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         JPanel partitionsTab = createPartitionsTab();
         leftTabbedPane.addTab("Particiones", partitionsTab);
 
+        // Pestaña del Planificador
+        JPanel schedulerTab = createSchedulerTab();
+        leftTabbedPane.addTab("Planificador", schedulerTab);
+
         // Panel derecho (resultados)
         JPanel rightPanel = new JPanel(new BorderLayout());
         rightPanel.setBorder(BorderFactory.createTitledBorder("Resultados de la Simulación"));
@@ -403,10 +490,94 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         panel.add(new JLabel("Partición:"), gbc);
         gbc.gridx = 1;
         panel.add(cmbPartition, gbc);
+        row++;
+
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        panel.add(new JLabel("Prioridad:"), gbc);
+        gbc.gridx = 1;
+        panel.add(txtProcessPriority, gbc);
+        row++;
+
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        panel.add(new JLabel("Llegada:"), gbc);
+        gbc.gridx = 1;
+        panel.add(txtProcessArrival, gbc);
+
+        return panel;
+    }
+
+    private JPanel createSchedulerTab() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        JPanel formPanel = new JPanel(new GridBagLayout());
+        formPanel.setBorder(BorderFactory.createTitledBorder("Algoritmo de Planificación"));
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(5, 5, 5, 5);
+        gbc.anchor = GridBagConstraints.WEST;
+
+        gbc.gridx = 0;
+        gbc.gridy = 0;
+        formPanel.add(new JLabel("Algoritmo:"), gbc);
+        gbc.gridx = 1;
+        formPanel.add(cmbSchedulingAlgorithm, gbc);
+        simulationLockedComponents.add(cmbSchedulingAlgorithm);
 
+        int row = 1;
+        row = addSchedulerField(formPanel, gbc, "Quantum:", txtQuantum, row);
+        row = addSchedulerField(formPanel, gbc, "Cambio de contexto:", txtContextSwitch, row);
+        row = addSchedulerField(formPanel, gbc, "Bloqueo por E/S:", txtIoBlock, row);
+        row = addSchedulerField(formPanel, gbc, "Dispositivos de E/S:", txtIoDevices, row);
+
+        JLabel lblHelp = new JLabel("<html>La prioridad de cada proceso solo se usa con el algoritmo "
+                + "por Prioridad (menor valor = mayor prioridad).</html>");
+        lblHelp.setPreferredSize(new Dimension(420, 40));
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        gbc.gridwidth = 2;
+        formPanel.add(lblHelp, gbc);
+
+        // Barrido de quantum
+        JPanel sweepPanel = new JPanel(new GridBagLayout());
+        sweepPanel.setBorder(BorderFactory.createTitledBorder("Barrido de Quantum"));
+        GridBagConstraints sweepGbc = new GridBagConstraints();
+        sweepGbc.insets = new Insets(5, 5, 5, 5);
+        sweepGbc.anchor = GridBagConstraints.WEST;
+
+        int sweepRow = 0;
+        sweepRow = addSchedulerField(sweepPanel, sweepGbc, "Desde:", txtSweepFrom, sweepRow);
+        sweepRow = addSchedulerField(sweepPanel, sweepGbc, "Hasta:", txtSweepTo, sweepRow);
+        sweepRow = addSchedulerField(sweepPanel, sweepGbc, "Paso:", txtSweepStep, sweepRow);
+
+        JButton btnSweep = new JButton("Buscar mejor quantum");
+        btnSweep.addActionListener(e -> runQuantumSweep());
+        simulationLockedComponents.add(btnSweep);
+        sweepGbc.gridx = 0;
+        sweepGbc.gridy = sweepRow;
+        sweepGbc.gridwidth = 2;
+        sweepPanel.add(btnSweep, sweepGbc);
+
+        JPanel northPanel = new JPanel(new BorderLayout());
+        northPanel.add(formPanel, BorderLayout.NORTH);
+        northPanel.add(sweepPanel, BorderLayout.CENTER);
+        panel.add(northPanel, BorderLayout.NORTH);
         return panel;
     }
 
+    private int addSchedulerField(JPanel panel, GridBagConstraints gbc, String labelText, JComponent field,
+            int row) {
+        gbc.gridwidth = 1;
+        gbc.gridx = 0;
+        gbc.gridy = row;
+        panel.add(new JLabel(labelText), gbc);
+        gbc.gridx = 1;
+        panel.add(field, gbc);
+        simulationLockedComponents.add(field);
+        return row + 1;
+    }
+
     private JPanel createPartitionFormPanel() {
         JPanel panel = new JPanel(new GridBagLayout());
         panel.setBorder(BorderFactory.createTitledBorder("Crear Nueva Partición"));
@@ -441,15 +612,23 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         JButton btnAdd = new JButton("Agregar");
         JButton btnEdit = new JButton("Modificar");
         JButton btnDelete = new JButton("Eliminar");
+        JButton btnImport = new JButton("Importar...");
 
         Dimension buttonSize = new Dimension(140, 35);
         btnAdd.setPreferredSize(buttonSize);
         btnEdit.setPreferredSize(buttonSize);
         btnDelete.setPreferredSize(buttonSize);
+        btnImport.setPreferredSize(buttonSize);
+        btnImport.setToolTipText("Agrega particiones y procesos desde un archivo CSV o JSON");
 
         btnAdd.addActionListener(e -> addProcess());
         btnEdit.addActionListener(e -> editProcess());
         btnDelete.addActionListener(e -> deleteProcess());
+        btnImport.addActionListener(e -> importWorkload());
+        simulationLockedComponents.add(btnAdd);
+        simulationLockedComponents.add(btnEdit);
+        simulationLockedComponents.add(btnDelete);
+        simulationLockedComponents.add(btnImport);
 
         gbc.gridx = 0;
         gbc.gridy = 0;
@@ -461,9 +640,12 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
 
         gbc.gridx = 0;
         gbc.gridy = 1;
-        gbc.gridwidth = 2;
         panel.add(btnDelete, gbc);
 
+        gbc.gridx = 1;
+        gbc.gridy = 1;
+        panel.add(btnImport, gbc);
+
         return panel;
     }
 
@@ -485,6 +667,8 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
 
         btnAdd.addActionListener(e -> addPartition());
         btnDelete.addActionListener(e -> deletePartition());
+        simulationLockedComponents.add(btnAdd);
+        simulationLockedComponents.add(btnDelete);
 
         gbc.gridx = 0;
         gbc.gridy = 0;
@@ -503,12 +687,16 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
 
         JButton btnSimulate = new JButton("Ejecutar Simulación");
         JButton btnReset = new JButton("Limpiar Todo");
+        JButton btnSaveScenario = new JButton("Guardar Escenario");
+        JButton btnLoadScenario = new JButton("Abrir Escenario");
         JButton btnManual = new JButton("Manual de usuario");
         JButton btnExit = new JButton("Salir");
 
         Dimension buttonSize = new Dimension(180, 40);
         btnSimulate.setPreferredSize(buttonSize);
         btnReset.setPreferredSize(buttonSize);
+        btnSaveScenario.setPreferredSize(buttonSize);
+        btnLoadScenario.setPreferredSize(buttonSize);
         btnManual.setPreferredSize(buttonSize);
         btnExit.setPreferredSize(buttonSize);
 
@@ -524,13 +712,34 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         btnExit.setBorderPainted(false);
         btnExit.setFocusPainted(false);
 
+        btnCancelSimulation = new JButton("Cancelar Simulación");
+        btnCancelSimulation.setPreferredSize(buttonSize);
+        btnCancelSimulation.setVisible(false);
+
+        // Cada partición con su propia CPU, simuladas en hilos separados
+        chkParallelPartitions = new JCheckBox("CPU por partición");
+        chkParallelPartitions.setToolTipText("Simula cada partición con su propia CPU en paralelo");
+
         btnSimulate.addActionListener(e -> runSimulation());
+        btnCancelSimulation.addActionListener(e -> cancelSimulation());
         btnReset.addActionListener(e -> clearAll());
+        btnSaveScenario.addActionListener(e -> saveScenario());
+        btnLoadScenario.addActionListener(e -> loadScenario());
         btnManual.addActionListener(e -> openUserManual());
         btnExit.addActionListener(e -> System.exit(0));
+        simulationLockedComponents.add(btnSimulate);
+        simulationLockedComponents.add(btnReset);
+        simulationLockedComponents.add(btnSaveScenario);
+        simulationLockedComponents.add(btnLoadScenario);
+        simulationLockedComponents.add(chkParallelPartitions);
 
+        panel.add(chkParallelPartitions);
         panel.add(btnSimulate);
+        panel.add(progressBar);
+        panel.add(btnCancelSimulation);
         panel.add(btnReset);
+        panel.add(btnSaveScenario);
+        panel.add(btnLoadScenario);
         panel.add(btnManual);
         panel.add(btnExit);
 
@@ -541,7 +750,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         JPanel mainPanel = new JPanel(new BorderLayout());
         
         // Panel de botones
-        JPanel buttonPanel = new JPanel(new GridLayout(3, 4, 5, 5));
+        JPanel buttonPanel = new JPanel(new GridLayout(4, 4, 5, 5));
         buttonPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
 
         for (int i = 0; i < tableNames.length; i++) {
@@ -549,11 +758,16 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
             btn.setPreferredSize(new Dimension(120, 30));
             final int index = i;
             btn.addActionListener(e -> {
-                cardLayout.show(resultsPanel, tableNames[index]);
-                updateResultTable(index);
+                showResultTable(index);
             });
+            simulationLockedComponents.add(btn);
             buttonPanel.add(btn);
         }
+
+        JButton btnGantt = new JButton(GANTT_CARD);
+        btnGantt.setPreferredSize(new Dimension(120, 30));
+        btnGantt.addActionListener(e -> cardLayout.show(resultsPanel, GANTT_CARD));
+        buttonPanel.add(btnGantt);
         
         mainPanel.add(buttonPanel, BorderLayout.CENTER);
         
@@ -564,7 +778,13 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         
         JButton btnApplyFilter = new JButton("Aplicar Filtro");
         btnApplyFilter.addActionListener(e -> applyPartitionFilter());
+        simulationLockedComponents.add(btnApplyFilter);
         filterPanel.add(btnApplyFilter);
+
+        JButton btnExportLogs = new JButton("Exportar Registro...");
+        btnExportLogs.addActionListener(e -> exportLogs());
+        simulationLockedComponents.add(btnExportLogs);
+        filterPanel.add(btnExportLogs);
         
         mainPanel.add(filterPanel, BorderLayout.SOUTH);
 
@@ -631,31 +851,45 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     }
 
     private void updatePartitionTable() {
-        partitionTableModel.setRowCount(0);
+        // Particiones e Inicial muestran el estado actual: se reconstruyen al volver a verlas
+        invalidateResultTables();
 
+        List<Object[]> rows = new ArrayList<>();
         for (Partition p : processManager.getPartitions()) {
             String formattedSize = numberFormatter.format(p.getSize());
-            partitionTableModel.addRow(new Object[] {
+            rows.add(new Object[] {
                     p.getName(),
                     formattedSize,
                     p.getProcessCount()
             });
         }
+        replaceRows(partitionTableModel, rows);
     }
 
-    private void updatePartitionComboBox() {
-        cmbPartition.removeAllItems();
-        for (Partition p : processManager.getPartitions()) {
-            cmbPartition.addItem(p);
+    // Cambia todas las filas avisando a la tabla una sola vez, no una por fila
+    private static void replaceRows(DefaultTableModel tableModel, List<Object[]> rows) {
+        Vector<Vector<Object>> data = new Vector<>(rows.size());
+        for (Object[] row : rows) {
+            data.add(new Vector<>(Arrays.asList(row)));
+        }
+        Vector<Object> columnNames = new Vector<>();
+        for (int i = 0; i < tableModel.getColumnCount(); i++) {
+            columnNames.add(tableModel.getColumnName(i));
         }
+        tableModel.setDataVector(data, columnNames);
+    }
+
+    private void updatePartitionComboBox() {
+        cmbPartition.setModel(new DefaultComboBoxModel<>(processManager.getPartitions().toArray(new Partition[0])));
     }
     
     private void updatePartitionFilterComboBox() {
-        cmbPartitionFilter.removeAllItems();
-        cmbPartitionFilter.addItem("Todas las particiones");
+        DefaultComboBoxModel<String> filterModel = new DefaultComboBoxModel<>();
+        filterModel.addElement("Todas las particiones");
         for (Partition p : processManager.getPartitions()) {
-            cmbPartitionFilter.addItem(p.getName());
+            filterModel.addElement(p.getName());
         }
+        cmbPartitionFilter.setModel(filterModel);
     }
 
     private void clearPartitionForm() {
@@ -691,6 +925,9 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
                 return;
             }
 
+            int priority = Integer.parseInt(txtProcessPriority.getText().trim());
+            long arrivalTime = parseTimeField(txtProcessArrival);
+
             Status status = cmbStatus.getSelectedIndex() == 0 ? Status.NO_BLOQUEADO : Status.BLOQUEADO;
             Partition partition = (Partition) cmbPartition.getSelectedItem();
 
@@ -699,7 +936,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
                 return;
             }
 
-            processManager.addProcess(name, time, status, size, partition);
+            processManager.addProcess(name, time, status, size, partition, priority, arrivalTime);
 
             updateProcessTable();
             updatePartitionTable();
@@ -741,7 +978,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         dialog.setAlwaysOnTop(true);
 
         dialog.setLayout(new GridBagLayout());
-        dialog.setSize(450, 450);
+        dialog.setSize(450, 550);
         dialog.setLocationRelativeTo(this);
 
         JPanel mainPanel = new JPanel(new GridBagLayout());
@@ -789,12 +1026,21 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         cmbEditPartition.setSelectedItem(process.getPartition());
         cmbEditPartition.setFont(new Font("Arial", Font.PLAIN, 14));
 
+        JTextField txtEditPriority = new JTextField(String.valueOf(process.getPriority()), 20);
+        txtEditPriority.setFont(new Font("Arial", Font.PLAIN, 14));
+
+        JTextField txtEditArrival = new JTextField(numberFormatter.format(process.getArrivalTime()), 20);
+        txtEditArrival.setFont(new Font("Arial", Font.PLAIN, 14));
+        setupTimeField(txtEditArrival);
+
         int row = 1;
         addDialogComponentStyled(mainPanel, gbc, "Nombre:", txtEditName, row++);
         addDialogComponentStyled(mainPanel, gbc, "Tiempo:", txtEditTime, row++);
         addDialogComponentStyled(mainPanel, gbc, "Tamaño:", txtEditSize, row++);
         addDialogComponentStyled(mainPanel, gbc, "Estado:", cmbEditStatus, row++);
         addDialogComponentStyled(mainPanel, gbc, "Partición:", cmbEditPartition, row++);
+        addDialogComponentStyled(mainPanel, gbc, "Prioridad:", txtEditPriority, row++);
+        addDialogComponentStyled(mainPanel, gbc, "Llegada:", txtEditArrival, row++);
 
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 10));
         buttonPanel.setBackground(new Color(44, 62, 80));
@@ -818,7 +1064,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
 
         btnSave.addActionListener(e -> {
             if (saveEditedProcess(dialog, process, selectedRow, txtEditTime, txtEditSize,
-                    cmbEditStatus, cmbEditPartition)) {
+                    cmbEditStatus, cmbEditPartition, txtEditPriority, txtEditArrival)) {
                 dialog.dispose();
             }
         });
@@ -883,7 +1129,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
 
     private boolean saveEditedProcess(JDialog dialog, model.Process originalProcess, int selectedRow,
             JTextField txtTime, JTextField txtSize, JComboBox<String> cmbStatus,
-            JComboBox<Partition> cmbPartition) {
+            JComboBox<Partition> cmbPartition, JTextField txtPriority, JTextField txtArrival) {
         try {
             long newTime = parseTimeField(txtTime);
             if (newTime <= 0) {
@@ -897,6 +1143,9 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
                 return false;
             }
 
+            int newPriority = Integer.parseInt(txtPriority.getText().trim());
+            long newArrivalTime = parseTimeField(txtArrival);
+
             Status newStatus = cmbStatus.getSelectedIndex() == 0 ? Status.NO_BLOQUEADO : Status.BLOQUEADO;
             Partition newPartition = (Partition) cmbPartition.getSelectedItem();
 
@@ -906,7 +1155,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
             }
 
             processManager.editProcess(selectedRow, originalProcess.getName(), newTime, newStatus,
-                    newSize, newPartition);
+                    newSize, newPartition, newPriority, newArrivalTime);
 
             updateProcessTable();
             updatePartitionTable();
@@ -933,27 +1182,60 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
     }
 
     private void updateProcessTable() {
-        processTableModel.setRowCount(0);
+        invalidateResultTables();
 
+        List<Object[]> rows = new ArrayList<>();
         for (model.Process p : processManager.getInitialProcesses()) {
             String formattedTime = numberFormatter.format(p.getOriginalTime());
             String formattedSize = numberFormatter.format(p.getSize());
             String partitionName = p.getPartition() != null ? p.getPartition().getName() : "Sin partición";
 
-            processTableModel.addRow(new Object[] {
+            rows.add(new Object[] {
                     p.getName(),
                     formattedTime,
                     p.getStatusString(),
                     formattedSize,
-                    partitionName
+                    partitionName,
+                    p.getPriority(),
+                    numberFormatter.format(p.getArrivalTime())
             });
         }
+        replaceRows(processTableModel, rows);
+    }
+
+    // Carga masiva: el archivo se valida completo y las vistas se actualizan una sola vez
+    private void importWorkload() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Importar particiones y procesos");
+        chooser.setFileFilter(new FileNameExtensionFilter("Cargas CSV o JSON", "csv", "txt", "json"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        try {
+            ProcessManager.ImportResult result = processManager.importWorkload(chooser.getSelectedFile().toPath());
+            updatePartitionTable();
+            updatePartitionComboBox();
+            updatePartitionFilterComboBox();
+            updateProcessTable();
+            showInfo("Se importaron " + numberFormatter.format(result.getPartitionCount()) + " particiones y "
+                    + numberFormatter.format(result.getProcessCount()) + " procesos");
+        } catch (IOException ex) {
+            showError("No se pudo leer el archivo: " + ex.getMessage());
+        } catch (IllegalArgumentException ex) {
+            showError("No se pudo importar: " + ex.getMessage());
+        } finally {
+            setCursor(Cursor.getDefaultCursor());
+        }
     }
 
     private void clearProcessForm() {
         txtProcessName.setText("");
         txtProcessTime.setText("");
         txtProcessSize.setText("");
+        txtProcessPriority.setText("0");
+        txtProcessArrival.setText("0");
         cmbStatus.setSelectedIndex(0);
         if (cmbPartition.getItemCount() > 0) {
             cmbPartition.setSelectedIndex(0);
@@ -973,20 +1255,245 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
             return;
         }
 
-        processManager.runSimulation();
+        SchedulerConfig config = readSchedulerConfig();
+        if (config == null) {
+            return;
+        }
 
-        for (int i = 0; i < tableNames.length; i++) {
-            updateResultTable(i);
+        processManager.setParallelPartitions(chkParallelPartitions.isSelected());
+        processManager.setSchedulingAlgorithm((SchedulingAlgorithm) cmbSchedulingAlgorithm.getSelectedItem());
+        setSimulationRunning(true);
+        simulationWorker = new SimulationWorker<Void>() {
+            @Override
+            protected Void compute() {
+                processManager.setProgressListener((completed, total) -> publish(new long[] { completed, total }));
+                try {
+                    processManager.runSimulation(config);
+                } finally {
+                    processManager.setProgressListener(null);
+                }
+                return null;
+            }
+
+            @Override
+            protected void succeeded(Void result) {
+                invalidateResultTables();
+                showResultTable(0);
+                showInfo("Simulación ejecutada exitosamente");
+            }
+
+            @Override
+            protected void cancelled() {
+                processManager.clearLogs();
+                clearResultTables();
+                showInfo("Simulación cancelada");
+            }
+
+            @Override
+            protected void failed(Throwable cause) {
+                clearResultTables();
+                showError("Error durante la simulación:<br>" + cause.getMessage());
+            }
+        };
+        simulationWorker.execute();
+    }
+
+    private SchedulerConfig readSchedulerConfig() {
+        try {
+            return new SchedulerConfig(parseTimeField(txtQuantum), parseTimeField(txtContextSwitch),
+                    parseTimeField(txtIoBlock), (int) Math.min(Integer.MAX_VALUE, parseTimeField(txtIoDevices)));
+        } catch (NumberFormatException ex) {
+            showError("Ingrese valores numéricos válidos en el planificador");
+        } catch (IllegalArgumentException ex) {
+            showError(ex.getMessage());
+        }
+        return null;
+    }
+
+    // Simula la carga con cada quantum del rango y propone el de menor retorno promedio
+    private void runQuantumSweep() {
+        if (processManager.isEmpty()) {
+            showError("No hay procesos para simular");
+            return;
+        }
+
+        SchedulerConfig config = readSchedulerConfig();
+        if (config == null) {
+            return;
+        }
+
+        long from;
+        long to;
+        long step;
+        try {
+            from = parseTimeField(txtSweepFrom);
+            to = parseTimeField(txtSweepTo);
+            step = parseTimeField(txtSweepStep);
+        } catch (NumberFormatException ex) {
+            showError("Ingrese valores numéricos válidos para el barrido");
+            return;
         }
 
-        cardLayout.show(resultsPanel, tableNames[0]);
-        showInfo("Simulación ejecutada exitosamente");
+        processManager.setSchedulingAlgorithm((SchedulingAlgorithm) cmbSchedulingAlgorithm.getSelectedItem());
+        processManager.setSchedulerConfig(config);
+        setSimulationRunning(true);
+        simulationWorker = new SimulationWorker<QuantumSweep.Result>() {
+            @Override
+            protected QuantumSweep.Result compute() {
+                QuantumSweep sweep = new QuantumSweep(processManager.getSchedulingAlgorithm(), config);
+                sweep.setProgressListener((completed, total) -> publish(new long[] { completed, total }));
+                return sweep.run(Scenario.fromProcessManager("", processManager), from, to, step);
+            }
+
+            @Override
+            protected void succeeded(QuantumSweep.Result result) {
+                QuantumSweep.Point best = result.getBest();
+                if (best == null) {
+                    showInfo("El barrido no produjo resultados");
+                    return;
+                }
+                txtQuantum.setText(numberFormatter.format(best.getQuantum()));
+                showInfo("Mejor quantum: " + numberFormatter.format(best.getQuantum())
+                        + "<br>Tiempo de retorno promedio: " + String.format("%.2f", best.getAverageTurnaroundTime())
+                        + "<br>Valores evaluados: " + result.getPoints().size());
+            }
+
+            @Override
+            protected void cancelled() {
+                showInfo("Barrido cancelado");
+            }
+
+            @Override
+            protected void failed(Throwable cause) {
+                showError("Error durante el barrido:<br>" + cause.getMessage());
+            }
+        };
+        simulationWorker.execute();
+    }
+
+    private void cancelSimulation() {
+        if (simulationWorker != null && !simulationWorker.isDone()) {
+            btnCancelSimulation.setEnabled(false);
+            simulationWorker.requestCancel();
+        }
+    }
+
+    // Simulación o barrido en segundo plano. Se cancela interrumpiendo su hilo (el motor
+    // lo revisa al publicar el avance) en lugar de SwingWorker.cancel, asi done() llega
+    // recién cuando el motor se detuvo y get() ya no bloquea el EDT.
+    private abstract class SimulationWorker<T> extends SwingWorker<T, long[]> {
+        private Thread runner;
+        private boolean cancelRequested;
+
+        protected abstract T compute();
+
+        protected abstract void succeeded(T result);
+
+        protected abstract void cancelled();
+
+        protected abstract void failed(Throwable cause);
+
+        synchronized void requestCancel() {
+            cancelRequested = true;
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+
+        @Override
+        protected final T doInBackground() {
+            synchronized (this) {
+                if (cancelRequested) {
+                    throw new CancellationException("Simulación cancelada");
+                }
+                runner = Thread.currentThread();
+            }
+            try {
+                return compute();
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                    // El hilo vuelve al pool de SwingWorker sin la interrupción pendiente
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        @Override
+        protected final void process(List<long[]> chunks) {
+            long[] last = chunks.get(chunks.size() - 1);
+            updateProgress(last[0], last[1]);
+        }
+
+        @Override
+        protected final void done() {
+            setSimulationRunning(false);
+            T result;
+            try {
+                result = get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof CancellationException) {
+                    cancelled();
+                } else {
+                    failed(ex.getCause());
+                }
+                return;
+            }
+            succeeded(result);
+        }
+    }
+
+    private void setSimulationRunning(boolean running) {
+        for (JComponent component : simulationLockedComponents) {
+            component.setEnabled(!running);
+        }
+        progressBar.setVisible(running);
+        btnCancelSimulation.setVisible(running);
+        btnCancelSimulation.setEnabled(running);
+        if (running) {
+            updateProgress(0, 0);
+        }
+    }
+
+    private void updateProgress(long completedCycles, long totalCycles) {
+        int percent = totalCycles <= 0 ? 0 : (int) Math.min(100, completedCycles * 100.0 / totalCycles);
+        progressBar.setValue(percent);
+        progressBar.setString(percent + "% (" + numberFormatter.format(completedCycles) + " / "
+                + numberFormatter.format(totalCycles) + " ciclos)");
+    }
+
+    private void showResultTable(int tableIndex) {
+        cardLayout.show(resultsPanel, tableNames[tableIndex]);
+        if (!resultTableBuilt[tableIndex]) {
+            updateResultTable(tableIndex);
+        }
+    }
+
+    private void invalidateResultTables() {
+        Arrays.fill(resultTableBuilt, false);
+    }
+
+    private void clearResultTables() {
+        invalidateResultTables();
+        ganttPanel.clear();
+        for (AbstractTableModel model : resultTableModels) {
+            if (model instanceof LogTableModel) {
+                ((LogTableModel) model).clear();
+            } else {
+                ((DefaultTableModel) model).setRowCount(0);
+            }
+        }
     }
 
     private void updateResultTable(int tableIndex) {
+        resultTableBuilt[tableIndex] = true;
+
         // Tabla especial para Particiones (índice 9)
         if (tableIndex == 9) {
-            resultTableModels[9].setRowCount(0);
+            reportTableModel(9).setRowCount(0);
             for (Partition p : processManager.getPartitions()) {
                 String formattedSize = numberFormatter.format(p.getSize());
                 
@@ -1003,7 +1510,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
                     }
                 }
                 
-                resultTableModels[9].addRow(new Object[] {
+                reportTableModel(9).addRow(new Object[] {
                         p.getName(),
                         formattedSize,
                         processNames.toString().isEmpty() ? "Ninguno" : processNames.toString()
@@ -1014,14 +1521,14 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
 
         // Tabla especial para Finalización de Particiones (índice 10)
         if (tableIndex == 10) {
-            resultTableModels[10].setRowCount(0);
+            reportTableModel(10).setRowCount(0);
             List<ProcessManager.PartitionFinalizationInfo> report = processManager.getPartitionFinalizationReport();
             
             for (ProcessManager.PartitionFinalizationInfo info : report) {
                 String formattedSize = numberFormatter.format(info.getSize());
                 String formattedTime = numberFormatter.format(info.getTotalTime());
                 
-                resultTableModels[10].addRow(new Object[] {
+                reportTableModel(10).addRow(new Object[] {
                         info.getName(),
                         formattedSize,
                         info.getProcessNames(),  // ← Ahora muestra nombres en vez de cantidad
@@ -1032,7 +1539,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         }
 
         if (tableIndex == 11) {
-        resultTableModels[11].setRowCount(0);
+        reportTableModel(11).setRowCount(0);
         List<Log> logs = processManager.getLogsByFilter(filters[tableIndex]);
         
         for (Log log : logs) {
@@ -1041,7 +1548,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
             long exceedBy = log.getSize() - log.getPartition().getSize();
             String formattedExceedBy = numberFormatter.format(exceedBy);
             
-            resultTableModels[11].addRow(new Object[] {
+            reportTableModel(11).addRow(new Object[] {
                     log.getProcessName(),
                     formattedProcessSize,
                     log.getPartitionName(),
@@ -1052,44 +1559,94 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         return;
     }
 
-        // Tabla especial para Inicial (índice 0)
-        if (tableIndex == 0) {
-            resultTableModels[0].setRowCount(0);
-            for (model.Process p : processManager.getInitialProcesses()) {
-                String formattedTime = numberFormatter.format(p.getOriginalTime());
-                String formattedSize = numberFormatter.format(p.getSize());
-                String partitionName = p.getPartition() != null ? p.getPartition().getName() : "Sin partición";
-
-                resultTableModels[0].addRow(new Object[] {
-                        p.getName(),
-                        formattedTime,
-                        p.getStatusString(),
-                        formattedSize,
-                        partitionName,
-                        0
+        // Métricas por proceso (índice 12)
+        if (tableIndex == 12) {
+            reportTableModel(12).setRowCount(0);
+            for (ProcessMetrics metrics : processManager.getMetrics().getProcessMetrics()) {
+                reportTableModel(12).addRow(new Object[] {
+                        metrics.getProcessName(),
+                        metrics.getPartitionName(),
+                        numberFormatter.format(metrics.getArrivalTime()),
+                        formatMetricTime(metrics.getFirstDispatchTime()),
+                        formatMetricTime(metrics.getCompletionTime()),
+                        formatMetricTime(metrics.getTurnaroundTime()),
+                        formatMetricTime(metrics.getWaitingTime()),
+                        formatMetricTime(metrics.getResponseTime())
                 });
             }
             return;
         }
 
-        // Resto de tablas (logs)
-        List<Log> logs = processManager.getLogsByFilter(filters[tableIndex]);
-        resultTableModels[tableIndex].setRowCount(0);
+        // Métricas por partición (índice 13), con una fila final de totales
+        if (tableIndex == 13) {
+            reportTableModel(13).setRowCount(0);
+            SimulationMetrics simulationMetrics = processManager.getMetrics();
+            for (PartitionMetrics metrics : simulationMetrics.getPartitionMetrics()) {
+                reportTableModel(13).addRow(new Object[] {
+                        metrics.getPartitionName(),
+                        metrics.getCompletedCount() + " / " + metrics.getProcessCount(),
+                        numberFormatter.format(metrics.getBusyTime()),
+                        numberFormatter.format(metrics.getElapsedTime()),
+                        String.format("%.1f%%", metrics.getUtilization() * 100),
+                        String.format("%.4f", metrics.getThroughput()),
+                        String.format("%.2f", metrics.getAverageTurnaroundTime()),
+                        String.format("%.2f", metrics.getAverageWaitingTime()),
+                        String.format("%.2f", metrics.getAverageResponseTime())
+                });
+            }
+            if (!simulationMetrics.getPartitionMetrics().isEmpty()) {
+                reportTableModel(13).addRow(new Object[] {
+                        "Total",
+                        String.valueOf(simulationMetrics.getCompletedCount()),
+                        "",
+                        numberFormatter.format(simulationMetrics.getSimulationTime()),
+                        String.format("%.1f%%", simulationMetrics.getCpuUtilization() * 100),
+                        String.format("%.4f", simulationMetrics.getThroughput()),
+                        String.format("%.2f", simulationMetrics.getAverageTurnaroundTime()),
+                        String.format("%.2f", simulationMetrics.getAverageWaitingTime()),
+                        String.format("%.2f", simulationMetrics.getAverageResponseTime())
+                });
+                // Tiempo en que la CPU no tuvo procesos listos porque todos esperaban E/S
+                reportTableModel(13).addRow(new Object[] {
+                        "CPU inactiva", "", numberFormatter.format(simulationMetrics.getIdleTime()), "",
+                        String.format("%.1f%%", simulationMetrics.getIdleFraction() * 100), "", "", "", ""
+                });
+            }
+            return;
+        }
 
-        for (Log log : logs) {
-            String formattedTime = numberFormatter.format(log.getRemainingTime());
-            String formattedSize = numberFormatter.format(log.getSize());
-            String partitionName = log.getPartition() != null ? log.getPartition().getName() : "Sin partición";
+        // Tabla especial para Inicial (índice 0): procesos actuales, aunque no se haya simulado
+        if (tableIndex == 0) {
+            List<model.Process> processes = processManager.getInitialProcesses();
+            logTableModel(0).setLogs(new AbstractList<Log>() {
+                @Override
+                public Log get(int index) {
+                    return new Log(processes.get(index), Filter.INICIAL);
+                }
 
-            resultTableModels[tableIndex].addRow(new Object[] {
-                    log.getProcessName(),
-                    formattedTime,
-                    log.getStatusString(),
-                    formattedSize,
-                    partitionName,
-                    log.getCycleCount()
+                @Override
+                public int size() {
+                    return processes.size();
+                }
             });
+            return;
         }
+
+        // Resto de tablas (logs): el modelo lee la vista del registro sin copiarla
+        logTableModel(tableIndex).setLogs(processManager.getLogsByFilter(filters[tableIndex]));
+    }
+
+    // Las métricas sin valor (proceso no terminado) se guardan como -1
+    private String formatMetricTime(long time) {
+        return time < 0 ? "-" : numberFormatter.format(time);
+    }
+
+    private DefaultTableModel reportTableModel(int tableIndex) {
+        return (DefaultTableModel) resultTableModels[tableIndex];
+    }
+
+    private LogTableModel logTableModel(int tableIndex) {
+        return (LogTableModel) resultTableModels[tableIndex];
     }
 
     private void applyPartitionFilter() {
@@ -1099,23 +1656,9 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
             // Mostrar todos los logs de LISTO
             updateResultTable(1); // índice 1 es LISTO
         } else {
-            // Filtrar por partición específica
-            resultTableModels[1].setRowCount(0);
-            List<Log> logs = processManager.getLogsByFilterAndPartition(Filter.LISTO, selectedPartition);
-            
-            for (Log log : logs) {
-                String formattedTime = numberFormatter.format(log.getRemainingTime());
-                String formattedSize = numberFormatter.format(log.getSize());
-
-                resultTableModels[1].addRow(new Object[] {
-                        log.getProcessName(),
-                        formattedTime,
-                        log.getStatusString(),
-                        formattedSize,
-                        log.getPartitionName(),
-                        log.getCycleCount()
-                });
-            }
+            // Filtrar por partición específica (queda en caché hasta la próxima invalidación)
+            resultTableBuilt[1] = true;
+            logTableModel(1).setLogs(processManager.getLogsByFilterAndPartition(Filter.LISTO, selectedPartition));
         }
         
         // Asegurarse de mostrar la tabla de Listo
@@ -1129,6 +1672,152 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
         new CustomDialog(this, "¿Está seguro de que desea eliminar todos los datos?", CustomDialog.CONFIRM_TYPE);
     }
 
+    // ========== EXPORTACIÓN DEL REGISTRO ==========
+
+    // Exporta un filtro o todo el registro a CSV o al formato columnar (.col), en
+    // segundo plano porque el registro de una simulación larga ocupa varios GB
+    private void exportLogs() {
+        List<Object> options = new ArrayList<>();
+        options.add("Todos los registros");
+        for (Filter filter : Filter.values()) {
+            if (!processManager.getLogsByFilter(filter).isEmpty()) {
+                options.add(filter.getName());
+            }
+        }
+        if (options.size() == 1) {
+            showError("No hay registros para exportar. Ejecute primero una simulación.");
+            return;
+        }
+        Object selected = JOptionPane.showInputDialog(this, "Registros a exportar:", "Exportar registro",
+                JOptionPane.PLAIN_MESSAGE, null, options.toArray(), options.get(0));
+        if (selected == null) {
+            return;
+        }
+        Filter filter = null;
+        for (Filter f : Filter.values()) {
+            if (f.getName().equals(selected)) {
+                filter = f;
+            }
+        }
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Exportar registro");
+        FileNameExtensionFilter csvFilter = new FileNameExtensionFilter("CSV (*.csv)", "csv");
+        FileNameExtensionFilter columnarFilter = new FileNameExtensionFilter("Columnar (*.col)", "col");
+        chooser.addChoosableFileFilter(csvFilter);
+        chooser.addChoosableFileFilter(columnarFilter);
+        chooser.setFileFilter(csvFilter);
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        String extension = chooser.getFileFilter() == columnarFilter ? ".col" : ".csv";
+        String lowerName = file.getName().toLowerCase(Locale.ROOT);
+        if (!lowerName.endsWith(".csv") && !lowerName.endsWith(".col")) {
+            file = new File(file.getParentFile(), file.getName() + extension);
+        }
+
+        File target = file;
+        Filter exportFilter = filter;
+        for (JComponent component : simulationLockedComponents) {
+            component.setEnabled(false);
+        }
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new SwingWorker<Long, Void>() {
+            @Override
+            protected Long doInBackground() throws IOException {
+                return processManager.exportLogs(target.toPath(), exportFilter);
+            }
+
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                for (JComponent component : simulationLockedComponents) {
+                    component.setEnabled(true);
+                }
+                try {
+                    showInfo(numberFormatter.format(get()) + " registros exportados a " + target.getName());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException ex) {
+                    showError("No se pudo exportar el registro: " + ex.getCause().getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    // ========== ESCENARIOS ==========
+
+    // Guarda particiones, procesos y el planificador tal como están en el formulario
+    private void saveScenario() {
+        SchedulerConfig config = readSchedulerConfig();
+        if (config == null) {
+            return;
+        }
+        JFileChooser chooser = createScenarioChooser("Guardar escenario");
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File file = chooser.getSelectedFile();
+        if (!file.getName().toLowerCase(Locale.ROOT).endsWith("." + SCENARIO_EXTENSION)) {
+            file = new File(file.getParentFile(), file.getName() + "." + SCENARIO_EXTENSION);
+        }
+
+        processManager.setSchedulerConfig(config);
+        processManager.setSchedulingAlgorithm((SchedulingAlgorithm) cmbSchedulingAlgorithm.getSelectedItem());
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        try {
+            processManager.saveScenario(file.toPath());
+            showInfo("Escenario guardado en " + file.getName());
+        } catch (IOException ex) {
+            showError("No se pudo guardar el escenario: " + ex.getMessage());
+        } finally {
+            setCursor(Cursor.getDefaultCursor());
+        }
+    }
+
+    private void loadScenario() {
+        JFileChooser chooser = createScenarioChooser("Abrir escenario");
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        try {
+            processManager.loadScenario(chooser.getSelectedFile().toPath());
+        } catch (IOException ex) {
+            showError("No se pudo abrir el escenario: " + ex.getMessage());
+            return;
+        } finally {
+            setCursor(Cursor.getDefaultCursor());
+        }
+
+        SchedulerConfig config = processManager.getSchedulerConfig();
+        cmbSchedulingAlgorithm.setSelectedItem(processManager.getSchedulingAlgorithm());
+        txtQuantum.setText(numberFormatter.format(config.getQuantum()));
+        txtContextSwitch.setText(numberFormatter.format(config.getContextSwitchTime()));
+        txtIoBlock.setText(numberFormatter.format(config.getIoBlockTime()));
+        txtIoDevices.setText(numberFormatter.format(config.getIoDevices()));
+        updateProcessTable();
+        updatePartitionTable();
+        updatePartitionComboBox();
+        updatePartitionFilterComboBox();
+        clearResultTables();
+        clearProcessForm();
+        clearPartitionForm();
+        showInfo("Escenario cargado: " + numberFormatter.format(processManager.getPartitions().size())
+                + " particiones y " + numberFormatter.format(processManager.getInitialProcesses().size())
+                + " procesos");
+    }
+
+    private JFileChooser createScenarioChooser(String title) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle(title);
+        chooser.setFileFilter(new FileNameExtensionFilter("Escenarios (*." + SCENARIO_EXTENSION + ")",
+                SCENARIO_EXTENSION));
+        return chooser;
+    }
+
     private void openUserManual() {
         try {
             File manualFile = new File("Manual_Usuario.pdf");
@@ -1214,9 +1903,7 @@ public class ProcessSimulatorGUI extends JFrame implements ActionListener {
                 updatePartitionComboBox();
                 updatePartitionFilterComboBox();
 
-                for (DefaultTableModel model : resultTableModels) {
-                    model.setRowCount(0);
-                }
+                clearResultTables();
 
                 clearProcessForm();
                 clearPartitionForm();